@@ -1,15 +1,64 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.10" tiledversion="1.11.2" name="CastleTiles" tilewidth="32" tileheight="32" tilecount="56" columns="8">
  <image source="../../map_assets/platform/CastleTiles.png" width="256" height="224"/>
- <tile id="1" type="CastlePlatform"/>
- <tile id="2" type="RightCastleCorner"/>
- <tile id="9" type="CastleBrick"/>
- <tile id="10" type="RightCastleWall"/>
- <tile id="11" type="BrickWall"/>
- <tile id="12" type="StoneBlock"/>
- <tile id="27" type="DarkStoneBlock"/>
- <tile id="31" type="SteelSpike"/>
- <tile id="35" type="LeftWoodPlatform"/>
- <tile id="36" type="FlatWoodPlatform"/>
- <tile id="37" type="RightWoodPlatform"/>
+ <tile id="1" type="CastlePlatform">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="2" type="RightCastleCorner">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="9" type="CastleBrick">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="10" type="RightCastleWall">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="11" type="BrickWall">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="12" type="StoneBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="27" type="DarkStoneBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="31" type="SteelSpike">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="SPIKE"/>
+   <property name="shape" value="INSET_MEDIUM"/>
+  </properties>
+ </tile>
+ <tile id="35" type="LeftWoodPlatform">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="shape" value="ONE_WAY"/>
+  </properties>
+ </tile>
+ <tile id="36" type="FlatWoodPlatform">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="shape" value="ONE_WAY"/>
+  </properties>
+ </tile>
+ <tile id="37" type="RightWoodPlatform">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="shape" value="ONE_WAY"/>
+  </properties>
+ </tile>
 </tileset>
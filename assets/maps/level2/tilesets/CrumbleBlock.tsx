@@ -1,5 +1,10 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.10" tiledversion="1.11.2" name="CrumbleBlock" tilewidth="32" tileheight="32" tilecount="1" columns="1">
  <image source="../../map_assets/crumble/crumble-5.png" width="32" height="32"/>
- <tile id="0" type="CrumbleBlock"/>
+ <tile id="0" type="CrumbleBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="CRUMBLING"/>
+  </properties>
+ </tile>
 </tileset>
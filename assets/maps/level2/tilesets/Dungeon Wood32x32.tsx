@@ -1,8 +1,16 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.10" tiledversion="1.11.2" name="Dungeon Wood32x32" tilewidth="32" tileheight="32" tilecount="322" columns="23">
  <image source="../../map_assets/platform/Dungeon Wood32x32.png" width="736" height="448"/>
- <tile id="3" type="CastleFloor"/>
- <tile id="6" type="CastleSmoothBlock"/>
+ <tile id="3" type="CastleFloor">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="6" type="CastleSmoothBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
  <tile id="13" type="ToxicBlock"/>
  <tile id="14" type="ToxicWoodBlock"/>
 </tileset>
@@ -1,9 +1,29 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.10" tiledversion="1.11.2" name="Graveyard_TileSet" tilewidth="32" tileheight="32" tilecount="110" columns="11">
  <image source="../../map_assets/platform/Graveyard_TileSet.png" width="352" height="320"/>
- <tile id="33" type="LeftGrassBlock"/>
- <tile id="34" type="GrassBlock"/>
- <tile id="35" type="RightGrassBlock"/>
- <tile id="44" type="LeftDirtWall"/>
- <tile id="46" type="RightDirtWall"/>
+ <tile id="33" type="LeftGrassBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="34" type="GrassBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="35" type="RightGrassBlock">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="44" type="LeftDirtWall">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
+ <tile id="46" type="RightDirtWall">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+  </properties>
+ </tile>
 </tileset>
@@ -3,7 +3,23 @@
  <image source="../../map_assets/platform/Dungeon Tile Set32x32.png" width="480" height="576"/>
  <tile id="16" type="StonePlatform"/>
  <tile id="32" type="CrumblingBlock"/>
- <tile id="211" type="BoneSpike"/>
- <tile id="213" type="BloodLeftSpike"/>
- <tile id="214" type="BloodRightSpike"/>
+ <tile id="211" type="BoneSpike">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="SPIKE"/>
+   <property name="shape" value="INSET_SMALL"/>
+  </properties>
+ </tile>
+ <tile id="213" type="BloodLeftSpike">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="SPIKE"/>
+  </properties>
+ </tile>
+ <tile id="214" type="BloodRightSpike">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="SPIKE"/>
+  </properties>
+ </tile>
 </tileset>
@@ -1,5 +1,10 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.10" tiledversion="1.11.2" name="SewerTiles" tilewidth="32" tileheight="32" tilecount="56" columns="8">
  <image source="../../map_assets/platform/SewerTiles.png" width="256" height="224"/>
- <tile id="1" type="CheckPoint"/>
+ <tile id="1" type="CheckPoint">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="CHECK_POINT"/>
+  </properties>
+ </tile>
 </tileset>
@@ -1,4 +1,10 @@
 <?xml version="1.0" encoding="UTF-8"?>
 <tileset version="1.10" tiledversion="1.11.2" name="jumpad" class="Jump_Pad" tilewidth="32" tileheight="24" tilecount="1" columns="1">
  <image source="../../map_assets/platform/jump_pad.png" width="32" height="24"/>
+ <tile id="0" type="Jump_Pad">
+  <properties>
+   <property name="collidable" type="bool" value="true"/>
+   <property name="effect" value="JUMP_PAD"/>
+  </properties>
+ </tile>
 </tileset>
@@ -1,5 +1,6 @@
 package Assembly.Enjoyers;
 
+import Assembly.Enjoyers.Map.LevelCatalog;
 import Assembly.Enjoyers.Screens.FinishScreen;
 import Assembly.Enjoyers.Screens.LevelsScreen;
 import Assembly.Enjoyers.Screens.MainMenuScreen;
@@ -33,6 +34,9 @@ public class MainGame extends Game {
      */
     public LevelsScreen levelsScreen;
 
+    /** Каталог рівнів, завантажений при старті гри. */
+    public LevelCatalog levelCatalog;
+
     private Sound buttonPressed;
     private float volume;
 
@@ -45,6 +49,7 @@ public class MainGame extends Game {
         Assets.finishLoading();
 
         batch = new SpriteBatch();
+        levelCatalog = LevelCatalog.load();
 
         mainMenuScreen = new MainMenuScreen(this);
         settingsScreen = new SettingsScreen(this);
@@ -7,17 +7,21 @@ import java.util.List;
 
 /**
  * Керує анімаційними кадрами блоку, що кришиться.
- * Завантажує текстури, зберігає тривалість кадрів та повертає відповідні кадри за стадією.
+ * Зберігає тривалість стадій та повертає відповідні кадри за стадією. Тривалість стадій
+ * визначає ігрову логіку блоку і доступна без Gdx-контексту, а текстури завантажуються
+ * лише при першому запиті кадру.
  */
 public class CrumblingAnimationManager {
+    private static final float[] frameDurations = {0.3f, 0.3f, 0.3f, 0.3f, 2f};
+
     private final List<Texture> loadedTextures = new ArrayList<>();
-    private final TextureRegion[] frames = new TextureRegion[5];
-    private final float[] frameDurations = {0.3f, 0.3f, 0.3f, 0.3f, 2f};
+    private TextureRegion[] frames;
 
     /**
-     * Створює менеджер анімації та завантажує всі необхідні текстури для етапів руйнування.
+     * Завантажує текстури для етапів руйнування.
      */
-    public CrumblingAnimationManager() {
+    private void loadFrames() {
+        frames = new TextureRegion[5];
         for (int i = 0; i < 5; i++) {
             Texture texture = new Texture("maps/map_assets/crumble/crumble-" + (i+1) + ".png");
             loadedTextures.add(texture);
@@ -31,7 +35,7 @@ public class CrumblingAnimationManager {
      * @param stage номер стадії (від 1 до 5)
      * @return тривалість у секундах для відповідного етапу; значення за замовчуванням — 0.75f
      */
-    public float getStageDuration(int stage) {
+    public static float getStageDuration(int stage) {
         if (stage >= 1 && stage <= frameDurations.length) {
             return frameDurations[stage - 1];
         }
@@ -47,6 +51,7 @@ public class CrumblingAnimationManager {
      * @return кадр TextureRegion, який відповідає поточній стадії
      */
     public TextureRegion getFrame(int stage, float delta) {
+        if (frames == null) loadFrames();
         if (stage >= 1 && stage <= 5) {
             return frames[stage - 1];
         }
@@ -1,19 +1,29 @@
 package Assembly.Enjoyers.Map.AnimatedBlocks;
 
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.Hazard;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 
 
 /**
  * Представляє блок, який кришиться в кілька етапів анімації та зрештою зникає.
+ * Поки блок кришиться, він небезпечний для гравця.
  */
-public class CrumblingBlock {
+public class CrumblingBlock implements Hazard {
     private final Rectangle bounds;
-    private final CrumblingAnimationManager animationManager;
+    /** Анімація блоку; створюється при першому запиті кадру, тож блок можна симулювати без графіки. */
+    private CrumblingAnimationManager animationManager;
 
     private int stage = 1;
     private float timer = 0;
     private boolean isActive = true;
+    /** Світ колізій, у якому блок реєструється, поки він твердий. */
+    private CollisionWorld collisionWorld;
+    private boolean registered;
+    /** Довжина циклу руйнування у кроках для кроку {@link #cycleStep}. */
+    private int cycleLength;
+    private float cycleStep;
 
 
     /**
@@ -26,7 +36,17 @@ public class CrumblingBlock {
      */
     public CrumblingBlock(float x, float y, float width, float height) {
         this.bounds = new Rectangle(x, y, width, height);
-        this.animationManager = new CrumblingAnimationManager();
+    }
+
+    /**
+     * Прив'язує блок до світу колізій. Поки блок твердий, його межі зареєстровані у світі
+     * як динамічне тіло; при переході на іншу стадію блок сам додається або вилучається.
+     *
+     * @param collisionWorld світ колізій рівня
+     */
+    public void attach(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
+        syncCollision();
     }
 
     /**
@@ -39,11 +59,12 @@ public class CrumblingBlock {
             isActive = true;
             stage = 1;
             timer = 0;
+            syncCollision();
             return;
         }
 
         timer += delta;
-        float currentStageDuration = animationManager.getStageDuration(stage);
+        float currentStageDuration = CrumblingAnimationManager.getStageDuration(stage);
 
         if (timer >= currentStageDuration) {
             timer = 0;
@@ -53,7 +74,66 @@ public class CrumblingBlock {
                 stage = 5;
                 isActive = false;
             }
+            syncCollision();
+        }
+    }
+
+    /**
+     * Наздоганяє пропущені кроки симуляції після сну. Цикл руйнування періодичний,
+     * тому виконується лише залишок від ділення на довжину циклу — результат збігається з тим,
+     * що дало б покрокове оновлення.
+     *
+     * @param ticks кількість пропущених кроків
+     * @param step  тривалість одного кроку в секундах
+     */
+    public void catchUp(long ticks, float step) {
+        long remaining = ticks % cycleTicks(step);
+        for (long i = 0; i < remaining; i++)
+            update(step);
+    }
+
+    /**
+     * Обчислює кількість кроків повного циклу: від стадії 1 до зникнення та відновлення.
+     */
+    private int cycleTicks(float step) {
+        if (step != cycleStep) {
+            int ticks = 0;
+            int cycleStage = 1;
+            float cycleTimer = 0;
+            while (cycleStage <= 5) {
+                ticks++;
+                cycleTimer += step;
+                if (cycleTimer >= CrumblingAnimationManager.getStageDuration(cycleStage)) {
+                    cycleTimer = 0;
+                    cycleStage++;
+                }
+            }
+            cycleStep = step;
+            cycleLength = ticks + 1;
         }
+        return cycleLength;
+    }
+
+    /**
+     * Перевіряє, чи блок зараз твердий (гравець може на ньому стояти).
+     *
+     * @return true, якщо блок активний і ще не на останній стадії
+     */
+    public boolean isSolid() {
+        return isActive && stage < 5;
+    }
+
+    /**
+     * Додає блок до світу колізій або вилучає з нього, якщо твердість змінилась.
+     */
+    private void syncCollision() {
+        if (collisionWorld == null || registered == isSolid()) return;
+
+        registered = isSolid();
+        if (registered)
+            collisionWorld.addDynamic(bounds);
+        else
+            collisionWorld.removeDynamic(bounds);
     }
 
     /**
@@ -81,9 +161,20 @@ public class CrumblingBlock {
      * @return поточний кадр анімації блоку
      */
     public TextureRegion getCurrentFrame(float delta) {
+        if (animationManager == null) animationManager = new CrumblingAnimationManager();
         return animationManager.getFrame(stage, delta);
     }
 
+    @Override
+    public Rectangle getHazardBounds() {
+        return bounds;
+    }
+
+    @Override
+    public boolean isLethal() {
+        return isCrumbling();
+    }
+
     /**
      * Повертає прямокутник меж блоку.
      *
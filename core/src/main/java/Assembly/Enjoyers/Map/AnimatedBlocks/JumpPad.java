@@ -1,14 +1,16 @@
 package Assembly.Enjoyers.Map.AnimatedBlocks;
 
-import Assembly.Enjoyers.Utils.EnvironmentSoundManager;
+import Assembly.Enjoyers.Map.Trigger.Trigger;
+import Assembly.Enjoyers.Map.Trigger.TriggerType;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.Rectangle;
 
 /**
  * Клас, що реалізує анімований прыжковий майданчик (джамп-пад) у грі.
- * Відповідає за відтворення анімації при активації гравцем.
+ * Відповідає за відтворення анімації при активації гравцем. Звук активації відтворює гра,
+ * тож трамплін можна симулювати без Gdx-контексту.
  */
-public class JumpPad {
+public class JumpPad implements Trigger {
     /** Межі для відображення текстури джамп-пада. */
     private final Rectangle drawBounds;
     /** Межі, при перетині яких гравець активує джамп-пад. */
@@ -17,7 +19,6 @@ public class JumpPad {
     private final JumpPadAnimationManager animationManager;
     /** Прапорець, що вказує на активований стан джамп-пада. */
     private boolean isTriggered = false;
-    private final EnvironmentSoundManager soundManager = new EnvironmentSoundManager();
 
     /**
      * Створює новий джамп-пад із заданими параметрами.
@@ -39,7 +40,6 @@ public class JumpPad {
     public void trigger() {
         if (!isTriggered) {
             animationManager.startAnimation();
-            soundManager.playJumpPad();
             isTriggered = true;
         }
     }
@@ -59,6 +59,14 @@ public class JumpPad {
         }
     }
 
+    /**
+     * Повертає джамп-пад у стан спокою без відтворення звуку.
+     */
+    public void reset() {
+        animationManager.reset();
+        isTriggered = false;
+    }
+
     /**
      * Повертає поточний кадр анімації джамп-пада.
      *
@@ -73,10 +81,16 @@ public class JumpPad {
      *
      * @return Прямокутник тригерної зони
      */
+    @Override
     public Rectangle getTriggerBounds() {
         return triggerBounds;
     }
 
+    @Override
+    public TriggerType getTriggerType() {
+        return TriggerType.JUMP_PAD;
+    }
+
     /**
      * Повертає межі для відображення джамп-пада.
      *
@@ -8,10 +8,14 @@ import java.util.List;
 /**
  * Менеджер анімації для джамп-пада.
  * Відповідає за завантаження, відтворення та керування кадрами анімації.
+ * Хід анімації визначає, коли трамплін знову готовий, тому він не залежить від Gdx-контексту:
+ * текстури завантажуються лише при першому запиті кадру.
  */
 public class JumpPadAnimationManager {
-    /** Масив кадрів анімації. */
-    private final TextureRegion[] frames = new TextureRegion[8];
+    /** Кількість кадрів анімації. */
+    private static final int FRAME_COUNT = 8;
+    /** Масив кадрів анімації; null, поки кадр не запитували. */
+    private TextureRegion[] frames;
     /** Тривалість відображення кожного кадру анімації. */
     private final float[] frameDurations = {0.1f, 0.15f, 0.2f, 0.15f, 0.2f, 0.2f, 0.2f, 0.25f};
     /** Список завантажених текстур для подальшого звільнення пам'яті. */
@@ -25,10 +29,11 @@ public class JumpPadAnimationManager {
     private boolean isAnimating = false;
 
     /**
-     * Конструктор, що ініціалізує анімацію - завантажує текстури кадрів.
+     * Завантажує текстури кадрів.
      */
-    public JumpPadAnimationManager() {
-        for (int i = 0; i < 8; i++) {
+    private void loadFrames() {
+        frames = new TextureRegion[FRAME_COUNT];
+        for (int i = 0; i < FRAME_COUNT; i++) {
             Texture texture = new Texture("maps/map_assets/jump_pad/jump_pad_" + (i+1) + ".png");
             loadedTextures.add(texture);
             frames[i] = new TextureRegion(texture);
@@ -44,6 +49,15 @@ public class JumpPadAnimationManager {
         currentFrame = 0;
     }
 
+    /**
+     * Зупиняє анімацію та повертає перший кадр.
+     */
+    public void reset() {
+        isAnimating = false;
+        stateTime = 0;
+        currentFrame = 0;
+    }
+
     /**
      * Оновлює стан анімації.
      *
@@ -56,7 +70,7 @@ public class JumpPadAnimationManager {
         if (stateTime >= frameDurations[currentFrame]) {
             stateTime = 0;
             currentFrame++;
-            if (currentFrame >= frames.length) {
+            if (currentFrame >= FRAME_COUNT) {
                 currentFrame = 0;
                 isAnimating = false;
             }
@@ -69,6 +83,7 @@ public class JumpPadAnimationManager {
      * @return Поточний кадр анімації
      */
     public TextureRegion getCurrentFrame() {
+        if (frames == null) loadFrames();
         return frames[currentFrame];
     }
 
@@ -0,0 +1,141 @@
+package Assembly.Enjoyers.Map.AnimatedBlocks;
+
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Кінематична платформа, що рухається з постійною швидкістю вздовж ламаної лінії.
+ * Після досягнення кінця шляху платформа повертається назад (або, якщо шлях замкнений,
+ * продовжує з першої точки). Платформа зареєстрована у світі колізій як динамічне тіло і
+ * повідомляє його про кожне переміщення; гравця, що стоїть на ній, переносить фізика гравця,
+ * а гравця, в якого платформа в'їхала збоку чи знизу, вона виштовхує вздовж свого руху
+ * (або розчавлює об стіну).
+ */
+public class MovingPlatform {
+    private final Rectangle bounds;
+    /** Точки шляху (лівий нижній кут платформи): x0, y0, x1, y1, ... */
+    private final float[] path;
+    private final float speed;
+    private final boolean loop;
+
+    /** Індекс точки шляху, до якої зараз рухається платформа. */
+    private int target;
+    private int direction = 1;
+    private float prevX, prevY;
+    private CollisionWorld collisionWorld;
+
+    private TextureRegion leftRegion, middleRegion, rightRegion;
+
+    /**
+     * Створює платформу у першій точці шляху.
+     *
+     * @param path   точки шляху лівого нижнього кута платформи (x0, y0, x1, y1, ...)
+     * @param width  ширина платформи
+     * @param height висота платформи
+     * @param speed  швидкість руху в пікселях за секунду
+     * @param loop   true — після останньої точки рухатися до першої; false — повертатися назад
+     */
+    public MovingPlatform(float[] path, float width, float height, float speed, boolean loop) {
+        this.path = path;
+        this.speed = speed;
+        this.loop = loop;
+        this.bounds = new Rectangle(path[0], path[1], width, height);
+        this.prevX = path[0];
+        this.prevY = path[1];
+        this.target = path.length > 2 ? 1 : 0;
+    }
+
+    /**
+     * Реєструє платформу у світі колізій як динамічне тіло.
+     *
+     * @param collisionWorld світ колізій рівня
+     */
+    public void attach(CollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
+        collisionWorld.addDynamic(bounds);
+    }
+
+    /**
+     * Задає текстури лівого краю, середини та правого краю платформи.
+     */
+    public void setRegions(TextureRegion left, TextureRegion middle, TextureRegion right) {
+        this.leftRegion = left;
+        this.middleRegion = middle;
+        this.rightRegion = right;
+    }
+
+    /**
+     * Переміщує платформу вздовж шляху на відстань, яку вона проходить за крок.
+     *
+     * @param delta тривалість кроку в секундах
+     */
+    public void update(float delta) {
+        prevX = bounds.x;
+        prevY = bounds.y;
+        if (path.length <= 2) return;
+
+        float x = bounds.x, y = bounds.y;
+        float distance = speed * delta;
+        int points = path.length / 2;
+        for (int i = 0; i <= points * 2 && distance > 0; i++) {
+            float tx = path[target * 2], ty = path[target * 2 + 1];
+            float segment = (float) StrictMath.sqrt((tx - x) * (tx - x) + (ty - y) * (ty - y));
+            if (segment > distance) {
+                x += (tx - x) / segment * distance;
+                y += (ty - y) / segment * distance;
+                break;
+            }
+
+            x = tx;
+            y = ty;
+            distance -= segment;
+            advanceTarget(points);
+        }
+
+        bounds.setPosition(x, y);
+        if (collisionWorld != null) collisionWorld.moveDynamic(bounds);
+    }
+
+    /**
+     * Вибирає наступну точку шляху після досягнення поточної.
+     */
+    private void advanceTarget(int points) {
+        if (loop) {
+            target = (target + 1) % points;
+            return;
+        }
+        if (target + direction < 0 || target + direction >= points) direction = -direction;
+        target += direction;
+    }
+
+    /**
+     * Малює платформу в позиції, інтерпольованій між двома кроками симуляції.
+     * Платформа складається з країв і середини, кожна частина займає квадрат висотою з платформу.
+     *
+     * @param batch Малювання сцени
+     * @param alpha частка кроку, що минула після останнього кроку (0..1)
+     */
+    public void draw(SpriteBatch batch, float alpha) {
+        if (middleRegion == null) return;
+
+        float x = prevX + (bounds.x - prevX) * alpha;
+        float y = prevY + (bounds.y - prevY) * alpha;
+        float size = bounds.height;
+        int pieces = Math.max(1, Math.round(bounds.width / size));
+        for (int i = 0; i < pieces; i++) {
+            TextureRegion region = middleRegion;
+            if (i == 0 && leftRegion != null && pieces > 1) region = leftRegion;
+            else if (i == pieces - 1 && rightRegion != null && pieces > 1) region = rightRegion;
+            batch.draw(region, x + i * size, y, size, size);
+        }
+    }
+
+    /**
+     * @return межі платформи (об'єкт зареєстрований у світі колізій)
+     */
+    public Rectangle getBounds() {
+        return bounds;
+    }
+}
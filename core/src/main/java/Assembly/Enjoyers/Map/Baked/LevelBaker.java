@@ -0,0 +1,177 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import Assembly.Enjoyers.Map.LevelCatalog;
+import Assembly.Enjoyers.Map.TileChunks;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Запікає ігрові дані рівнів під час збірки: для кожного {@code maps/*}{@code /map.tmx}
+ * у теці ресурсів записує поруч {@code map.level} ({@link LevelFile}), а для всіх рівнів —
+ * каталог {@link LevelCatalog#PATH}.
+ * Запуск: {@code gradlew bakeLevels} (виконується автоматично перед пакуванням ресурсів).
+ * <p>
+ * Мапа, яку не вдалося прочитати, пропускається з попередженням, а її застарілий
+ * запечений файл видаляється — гра тоді будує дані з TMX, як і раніше.
+ * <p>
+ * Дані рівня для каталогу беруться з мапи: властивості мапи {@code id}, {@code name} і {@code thumbnail}
+ * (за замовчуванням — {@code levelId-N}, "Рiвень N" з номера теки {@code levelN} і {@code thumbnail.png}
+ * поруч з мапою, якщо він є), точка появи та фініш — об'єкти "spawn" і "exit" шару "Level"
+ * (якщо їх немає — значення вбудованого рівня з тим самим ідентифікатором, {@link LevelCatalog#DEFAULTS}).
+ * Рівень, що не має ні того, ні іншого, не потрапляє до каталогу, і запікання завершується помилкою,
+ * щоб така мапа не дійшла до гри.
+ */
+public class LevelBaker {
+
+    public static void main(String[] args) throws IOException {
+        Path assets = Path.of(args.length > 0 ? args[0] : "assets");
+        Path maps = assets.resolve("maps");
+        if (!Files.isDirectory(maps)) {
+            System.out.println("LevelBaker: no maps directory in " + assets);
+            return;
+        }
+
+        List<Path> levels = new ArrayList<>();
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(maps, Files::isDirectory)) {
+            for (Path level : directories) {
+                if (Files.isRegularFile(level.resolve("map.tmx"))) levels.add(level);
+            }
+        }
+        levels.sort(Comparator.comparingInt((Path level) -> levelNumber(level.getFileName().toString()))
+            .thenComparing(level -> level.getFileName().toString()));
+
+        int baked = 0, skipped = 0;
+        List<LevelCatalog.Entry> catalog = new ArrayList<>();
+        List<Path> unplayable = new ArrayList<>();
+        for (Path level : levels) {
+            Path tmx = level.resolve("map.tmx");
+            LevelData data = bake(tmx, level.resolve("map.level"));
+            if (data == null) {
+                skipped++;
+                continue;
+            }
+            baked++;
+            LevelCatalog.Entry entry = catalogEntry(assets, level, tmx, data);
+            if (entry != null) catalog.add(entry);
+            else unplayable.add(tmx);
+        }
+        System.out.println("LevelBaker: baked " + baked + " level(s), skipped " + skipped);
+        writeCatalog(assets.resolve(LevelCatalog.PATH), catalog);
+        if (!unplayable.isEmpty())
+            throw new IOException("No spawn or exit in layer Level and no built-in level for " + unplayable);
+    }
+
+    /**
+     * Запікає одну мапу. Пише спочатку у тимчасовий файл, щоб гра ніколи не побачила напівзаписаний.
+     *
+     * @return дані рівня або null, якщо мапу не вдалося прочитати
+     */
+    static LevelData bake(Path tmx, Path output) throws IOException {
+        long start = System.nanoTime();
+        LevelData data;
+        try {
+            byte[] source = Files.readAllBytes(tmx);
+            Function<String, byte[]> tilesets = path -> readTileset(tmx.resolveSibling(path));
+            data = TmxReader.read(source, LevelFile.sourceHash(source, tilesets), tilesets);
+        } catch (IOException | RuntimeException e) {
+            System.out.println("LevelBaker: skipping " + tmx + ": " + e.getMessage());
+            Files.deleteIfExists(output);
+            return null;
+        }
+
+        Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            LevelFile.write(data, out);
+        }
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+
+        System.out.printf("LevelBaker: %s -> %s (%dx%d, %d tiles -> %d rects, %d bytes, %.1f ms)%n",
+            tmx, output.getFileName(), data.getWidth(), data.getHeight(), data.getFullTileCount(),
+            data.getCollisionRects().size(), Files.size(output), (System.nanoTime() - start) / 1e6);
+        return data;
+    }
+
+    /**
+     * Складає запис каталогу для запеченого рівня.
+     *
+     * @return запис або null, якщо для рівня невідомі точка появи чи фініш
+     */
+    private static LevelCatalog.Entry catalogEntry(Path assets, Path level, Path tmx, LevelData data) throws IOException {
+        Map<String, String> properties = TmxReader.properties(Files.readAllBytes(tmx));
+        String directory = level.getFileName().toString();
+        int number = levelNumber(directory);
+        String id = properties.getOrDefault("id", number != Integer.MAX_VALUE ? "levelId-" + number : directory);
+        String name = properties.getOrDefault("name", number != Integer.MAX_VALUE ? "Рiвень " + number : directory);
+
+        LevelCatalog.Entry fallback = LevelCatalog.findDefault(id);
+        if ((!data.hasSpawn() || data.getExit() == null) && fallback == null) return null;
+        float spawnX = data.hasSpawn() ? data.getSpawnX() : fallback.getSpawnX();
+        float spawnY = data.hasSpawn() ? data.getSpawnY() : fallback.getSpawnY();
+        Rectangle exit = data.getExit() != null ? data.getExit() : fallback.getExit();
+
+        String thumbnail = properties.get("thumbnail");
+        if (thumbnail == null && Files.isRegularFile(level.resolve("thumbnail.png")))
+            thumbnail = assetPath(assets, level.resolve("thumbnail.png"));
+
+        return new LevelCatalog.Entry(id, name, assetPath(assets, tmx), spawnX, spawnY, exit,
+            data.getWidth() * data.getTileSize(), data.getHeight() * data.getTileSize(),
+            TileChunks.chunkCount(data.getWidth(), data.getHeight()), thumbnail);
+    }
+
+    /**
+     * Записує каталог рівнів. Якщо жоден рівень не потрапив до каталогу, застарілий файл видаляється,
+     * і гра використовує вбудовані рівні.
+     */
+    private static void writeCatalog(Path output, List<LevelCatalog.Entry> levels) throws IOException {
+        if (levels.isEmpty()) {
+            Files.deleteIfExists(output);
+            return;
+        }
+        Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            new LevelCatalog(levels).write(out);
+        }
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+        System.out.println("LevelBaker: catalog of " + levels.size() + " level(s) -> " + output);
+    }
+
+    /**
+     * Номер рівня з назви теки ({@code level2} → 2) або {@link Integer#MAX_VALUE}, якщо номера немає.
+     */
+    private static int levelNumber(String directory) {
+        String digits = directory.replaceAll("\\D", "");
+        try {
+            return digits.isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(digits);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Шлях файлу відносно теки ресурсів з роздільником "/".
+     */
+    private static String assetPath(Path assets, Path file) {
+        return assets.relativize(file).toString().replace('\\', '/');
+    }
+
+    private static byte[] readTileset(Path tileset) {
+        try {
+            return Files.readAllBytes(tileset);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Локальний кеш ігрових даних рівнів ({@code cache/levels/} у локальній теці гри).
+ * Для рівнів без запеченого файлу (або із застарілим) дані, один раз побудовані з TMX,
+ * зберігаються у форматі {@link LevelFile} під ключем — хешем TMX і його тайлсетів.
+ * Повторне завантаження того самого рівня (рестарт, повернення з меню, новий запуск гри)
+ * читає їх з кешу замість обходу всіх клітинок мапи.
+ * <p>
+ * Запис виконується у фоновому потоці, щоб не затримувати старт рівня; файл з'являється
+ * атомарно (через тимчасовий файл), а записи для попередніх версій того самого рівня видаляються.
+ * Якщо вихідні файли змінилися, а застарілі дані ще придатні (ті самі розміри мапи), гра
+ * використовує їх, а нові дані будуються з TMX у тому ж фоновому потоці ({@link #rebuildAsync}).
+ * <p>
+ * Хеш вихідних файлів рівня обчислюється один раз за запуск гри ({@link #sourceHash(String)}):
+ * повторні завантаження лише порівнюють розмір і час зміни TMX та тайлсетів із запам'ятованими.
+ */
+public final class LevelCache {
+    private static final String DIRECTORY = "cache/levels/";
+    private static ExecutorService writer;
+    /** Хеші вихідних файлів рівнів, обчислені за цей запуск гри, за шляхом TMX. */
+    private static final Map<String, SourceStamp> sourceHashes = new HashMap<>();
+    /** Імена файлів кешу, перебудова яких уже запланована. */
+    private static final Set<String> rebuilding = new HashSet<>();
+
+    private LevelCache() {
+    }
+
+    /**
+     * Повертає хеш TMX-файлу рівня та зовнішніх тайлсетів, на які він посилається ({@link LevelFile#sourceHash}).
+     * Файли читаються і хешуються лише при першому запиті за запуск гри або якщо з того часу
+     * змінився розмір чи час зміни котрогось із них.
+     *
+     * @param levelPath внутрішній шлях до TMX-файлу рівня
+     * @return хеш вихідних файлів
+     */
+    public static synchronized long sourceHash(String levelPath) {
+        SourceStamp stamp = sourceHashes.get(levelPath);
+        if (stamp != null && stamp.isCurrent()) return stamp.hash;
+
+        FileHandle tmx = Gdx.files.internal(levelPath);
+        List<FileHandle> files = new ArrayList<>();
+        files.add(tmx);
+        long hash = LevelFile.sourceHash(tmx.readBytes(), source -> {
+            FileHandle tileset = tileset(tmx, source);
+            files.add(tileset);
+            return tileset.exists() ? tileset.readBytes() : null;
+        });
+        sourceHashes.put(levelPath, new SourceStamp(hash, files.toArray(new FileHandle[0])));
+        return hash;
+    }
+
+    /**
+     * Повертає джерело зовнішніх тайлсетів рівня для {@link TmxReader} і {@link LevelFile#sourceHash}.
+     *
+     * @param tmx TMX-файл рівня
+     * @return вміст тайлсету за шляхом відносно TMX або null, якщо його немає
+     */
+    public static Function<String, byte[]> tilesets(FileHandle tmx) {
+        return source -> {
+            FileHandle tileset = tileset(tmx, source);
+            return tileset.exists() ? tileset.readBytes() : null;
+        };
+    }
+
+    /**
+     * Знаходить файл тайлсету за шляхом з атрибута {@code source} відносно TMX-файлу.
+     */
+    private static FileHandle tileset(FileHandle tmx, String source) {
+        FileHandle tileset = tmx.parent();
+        for (String part : source.split("/")) {
+            if (part.equals("..")) tileset = tileset.parent();
+            else if (!part.isEmpty() && !part.equals(".")) tileset = tileset.child(part);
+        }
+        return tileset;
+    }
+
+    /**
+     * Повертає файл кешу для рівня з заданим хешем вихідних файлів.
+     *
+     * @param levelPath  шлях до TMX-файлу рівня
+     * @param sourceHash хеш вихідних файлів ({@link LevelFile#sourceHash})
+     * @return файл кешу (може не існувати)
+     */
+    public static FileHandle file(String levelPath, long sourceHash) {
+        return Gdx.files.local(DIRECTORY + prefix(levelPath) + String.format("%016x", sourceHash) + ".level");
+    }
+
+    /**
+     * Повертає останній записаний файл кешу рівня незалежно від хешу вихідних файлів.
+     *
+     * @param levelPath шлях до TMX-файлу рівня
+     * @return файл кешу або null, якщо для рівня нічого не збережено
+     */
+    public static FileHandle latest(String levelPath) {
+        FileHandle directory = Gdx.files.local(DIRECTORY);
+        FileHandle latest = null;
+        for (FileHandle entry : directory.list(".level")) {
+            if (entry.name().startsWith(prefix(levelPath))
+                && (latest == null || entry.lastModified() > latest.lastModified()))
+                latest = entry;
+        }
+        return latest;
+    }
+
+    /**
+     * Будує дані рівня з TMX і зберігає їх у кеш у фоновому потоці. Повторні виклики для того
+     * самого рівня і хешу, поки перебудова не завершилась, ігноруються.
+     *
+     * @param levelPath  шлях до TMX-файлу рівня
+     * @param sourceHash поточний хеш вихідних файлів ({@link #sourceHash(String)})
+     */
+    public static void rebuildAsync(String levelPath, long sourceHash) {
+        FileHandle target = file(levelPath, sourceHash);
+        synchronized (rebuilding) {
+            if (!rebuilding.add(target.name())) return;
+        }
+        writer().execute(() -> {
+            try {
+                if (target.exists()) return;
+                long start = System.nanoTime();
+                FileHandle tmx = Gdx.files.internal(levelPath);
+                LevelData data = TmxReader.read(tmx.readBytes(), sourceHash, tilesets(tmx));
+                write(levelPath, target, serialize(data));
+                Gdx.app.log("LevelCache", "Rebuilt " + levelPath + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            } catch (IOException | RuntimeException e) {
+                Gdx.app.error("LevelCache", "Failed to rebuild " + levelPath, e);
+            } finally {
+                synchronized (rebuilding) {
+                    rebuilding.remove(target.name());
+                }
+            }
+        });
+    }
+
+    /**
+     * Зберігає дані рівня у кеш у фоновому потоці. Дані серіалізуються одразу, тож їх можна
+     * змінювати чи звільняти після виклику.
+     *
+     * @param levelPath шлях до TMX-файлу рівня
+     * @param data      дані рівня з хешем вихідних файлів
+     */
+    public static void storeAsync(String levelPath, LevelData data) {
+        byte[] bytes;
+        try {
+            bytes = serialize(data);
+        } catch (IOException e) {
+            Gdx.app.error("LevelCache", "Failed to serialize " + levelPath, e);
+            return;
+        }
+
+        FileHandle target = file(levelPath, data.getSourceHash());
+        writer().execute(() -> {
+            try {
+                write(levelPath, target, bytes);
+            } catch (RuntimeException e) {
+                Gdx.app.error("LevelCache", "Failed to cache " + levelPath, e);
+            }
+        });
+    }
+
+    private static byte[] serialize(LevelData data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LevelFile.write(data, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Атомарно записує файл кешу і видаляє записи для попередніх версій рівня. Виконується у фоновому потоці.
+     */
+    private static void write(String levelPath, FileHandle target, byte[] bytes) {
+        FileHandle temp = target.sibling(target.name() + ".tmp");
+        temp.writeBytes(bytes, false);
+        temp.moveTo(target);
+        for (FileHandle entry : target.parent().list(".level")) {
+            if (entry.name().startsWith(prefix(levelPath)) && !entry.name().equals(target.name()))
+                entry.delete();
+        }
+        Gdx.app.log("LevelCache", "Cached " + levelPath + " -> " + target.path() + " (" + bytes.length + " bytes)");
+    }
+
+    /**
+     * Префікс імен файлів кешу одного рівня: шлях без розширення з підкресленнями замість роздільників.
+     */
+    private static String prefix(String levelPath) {
+        int extension = levelPath.lastIndexOf('.');
+        String name = extension > 0 ? levelPath.substring(0, extension) : levelPath;
+        return name.replaceAll("[^A-Za-z0-9]", "_") + "-";
+    }
+
+    /**
+     * Хеш вихідних файлів рівня разом із розміром і часом зміни кожного з них на момент обчислення.
+     * Для ресурсів усередині jar час зміни завжди 0, але вони й не змінюються за час роботи гри.
+     */
+    private static final class SourceStamp {
+        final long hash;
+        final FileHandle[] files;
+        final long[] lengths;
+        final long[] modified;
+
+        SourceStamp(long hash, FileHandle[] files) {
+            this.hash = hash;
+            this.files = files;
+            this.lengths = new long[files.length];
+            this.modified = new long[files.length];
+            for (int i = 0; i < files.length; i++) {
+                lengths[i] = files[i].exists() ? files[i].length() : -1;
+                modified[i] = files[i].lastModified();
+            }
+        }
+
+        boolean isCurrent() {
+            for (int i = 0; i < files.length; i++) {
+                long length = files[i].exists() ? files[i].length() : -1;
+                if (length != lengths[i] || files[i].lastModified() != modified[i]) return false;
+            }
+            return true;
+        }
+    }
+
+    private static synchronized ExecutorService writer() {
+        if (writer == null) {
+            writer = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "level-cache");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return writer;
+    }
+}
@@ -0,0 +1,252 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ігрові дані рівня, отримані з тайлів та об'єктних шарів мапи: маска колізій, прямокутники
+ * колізій, шипи, клітинки crumble-блоків, трамплінів і чекпоінтів, рухомі платформи,
+ * точка появи та фініш, а також ідентифікатори тайлів шарів для {@link Assembly.Enjoyers.Map.TileGrid}. Не містить графіки, тому однаково будується з TMX під час
+ * запуску гри ({@link LevelDataBuilder}) або заздалегідь під час збірки ({@link LevelBaker})
+ * і зберігається у двійковий файл ({@link LevelFile}).
+ */
+public class LevelData {
+    final int width;
+    final int height;
+    final int tileSize;
+    final SolidityGrid grid;
+    int fullTileCount;
+    List<Rectangle> collisionRects = new ArrayList<>();
+    SpatialGrid collisionGrid;
+    final List<Rectangle> hazardRects = new ArrayList<>();
+    /** Ідентифікатор тайла кожного шипа (паралельно {@link #hazardRects}). */
+    final IntArray hazardTiles = new IntArray();
+    /** Клітинки (стовпчик, рядок) crumble-блоків. */
+    final IntArray crumblingCells = new IntArray();
+    /** Клітинки (стовпчик, рядок) трамплінів. */
+    final IntArray jumpPadCells = new IntArray();
+    /** Клітинки (стовпчик, рядок) чекпоінтів. */
+    final IntArray checkPointCells = new IntArray();
+    final List<PlatformPath> platforms = new ArrayList<>();
+    boolean hasSpawn;
+    float spawnX, spawnY;
+    Rectangle exit;
+    /** Ідентифікатори тайлів шарів тайлів верхнього рівня у порядку мапи, індекс {@code row * width + col}. */
+    final List<IntBuffer> tileIds = new ArrayList<>();
+    /** Прапорці віддзеркалення та повороту клітинок у форматі {@link Assembly.Enjoyers.Map.TileGrid} (паралельно {@link #tileIds}). */
+    final List<ByteBuffer> tileFlags = new ArrayList<>();
+    /** Хеш вихідних файлів мапи, з яких побудовано дані (для перевірки застарілості). */
+    long sourceHash;
+
+    LevelData(SolidityGrid grid) {
+        this.grid = grid;
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.tileSize = grid.getTileSize();
+    }
+
+    /**
+     * @return ширина мапи у тайлах
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return висота мапи у тайлах
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return розмір тайла у пікселях
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * @return маска суцільних, небезпечних та ефектних клітинок і форм тайлів
+     */
+    public SolidityGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return кількість повних суцільних тайлів до об'єднання
+     */
+    public int getFullTileCount() {
+        return fullTileCount;
+    }
+
+    /**
+     * @return прямокутники колізій: клітинки неповної форми та об'єднані повні клітинки
+     */
+    public List<Rectangle> getCollisionRects() {
+        return collisionRects;
+    }
+
+    /**
+     * @return просторовий індекс прямокутників колізій
+     */
+    public SpatialGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    /**
+     * @return зони шипів
+     */
+    public List<Rectangle> getHazardRects() {
+        return hazardRects;
+    }
+
+    /**
+     * @return ідентифікатори тайлів шипів, по одному на зону
+     */
+    public IntArray getHazardTiles() {
+        return hazardTiles;
+    }
+
+    /**
+     * @return клітинки crumble-блоків (стовпчик, рядок підряд)
+     */
+    public IntArray getCrumblingCells() {
+        return crumblingCells;
+    }
+
+    /**
+     * @return клітинки трамплінів (стовпчик, рядок підряд)
+     */
+    public IntArray getJumpPadCells() {
+        return jumpPadCells;
+    }
+
+    /**
+     * @return клітинки чекпоінтів (стовпчик, рядок підряд)
+     */
+    public IntArray getCheckPointCells() {
+        return checkPointCells;
+    }
+
+    /**
+     * @return шляхи рухомих платформ
+     */
+    public List<PlatformPath> getPlatforms() {
+        return platforms;
+    }
+
+    /**
+     * @return true, якщо мапа задає точку появи гравця
+     */
+    public boolean hasSpawn() {
+        return hasSpawn;
+    }
+
+    /**
+     * @return координата X точки появи
+     */
+    public float getSpawnX() {
+        return spawnX;
+    }
+
+    /**
+     * @return координата Y точки появи
+     */
+    public float getSpawnY() {
+        return spawnY;
+    }
+
+    /**
+     * @return зона фінішу або null, якщо мапа її не задає
+     */
+    public Rectangle getExit() {
+        return exit;
+    }
+
+    /**
+     * @return кількість шарів тайлів верхнього рівня мапи
+     */
+    public int getTileLayerCount() {
+        return tileIds.size();
+    }
+
+    /**
+     * Повертає ідентифікатори тайлів шару. Буфер спільний (для файлу, відображеного у пам'ять,
+     * він посилається на сам файл), тому читати його слід лише абсолютними {@code get(index)}.
+     *
+     * @param layer номер шару серед шарів тайлів мапи
+     * @return ідентифікатори з індексом {@code row * width + col}; 0 — порожньо
+     */
+    public IntBuffer getTileIds(int layer) {
+        return tileIds.get(layer);
+    }
+
+    /**
+     * @param layer номер шару серед шарів тайлів мапи
+     * @return прапорці віддзеркалення та повороту клітинок шару (читати абсолютними {@code get(index)})
+     */
+    public ByteBuffer getTileFlags(int layer) {
+        return tileFlags.get(layer);
+    }
+
+    /**
+     * @return хеш вихідних файлів мапи
+     */
+    public long getSourceHash() {
+        return sourceHash;
+    }
+
+    /**
+     * Шлях рухомої платформи з об'єктного шару "Platforms".
+     */
+    public static class PlatformPath {
+        private final float[] path;
+        private final float width;
+        private final float height;
+        private final float speed;
+        private final boolean loop;
+
+        /**
+         * @param path   точки шляху лівого нижнього кута платформи (x0, y0, x1, y1, ...)
+         * @param width  ширина платформи у пікселях
+         * @param height висота платформи у пікселях
+         * @param speed  швидкість у пікселях за секунду
+         * @param loop   чи рухатися по колу замість руху назад
+         */
+        public PlatformPath(float[] path, float width, float height, float speed, boolean loop) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+            this.speed = speed;
+            this.loop = loop;
+        }
+
+        public float[] getPath() {
+            return path;
+        }
+
+        public float getWidth() {
+            return width;
+        }
+
+        public float getHeight() {
+            return height;
+        }
+
+        public float getSpeed() {
+            return speed;
+        }
+
+        public boolean isLoop() {
+            return loop;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import Assembly.Enjoyers.Map.Collision.CollisionMerger;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
+import Assembly.Enjoyers.Map.Collision.TileShape;
+import Assembly.Enjoyers.Map.TileKind;
+import Assembly.Enjoyers.Map.TileRegistry;
+import Assembly.Enjoyers.Map.TileTyped;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Будує {@link LevelData} з ідентифікаторів тайлів шарів мапи та об'єктів рівня.
+ * Не залежить від libGDX-завантажувача мап і графіки; шари та об'єкти йому передає {@link TmxReader}
+ * і під час збірки, і в грі, що гарантує однакові дані з обох джерел.
+ */
+public class LevelDataBuilder {
+    /** Ширина смуги стовпчиків, яку обробляє одна задача {@link #addTileLayers(List, ForkJoinPool)}. */
+    public static final int BAND_COLUMNS = 64;
+    private static final TileShape[] SHAPES = TileShape.values();
+
+    private final LevelData data;
+    private final TileRegistry tiles;
+    private final boolean mergeCollisions;
+    private boolean built;
+
+    /**
+     * @param width           ширина мапи у тайлах
+     * @param height          висота мапи у тайлах
+     * @param tileSize        розмір тайла у пікселях
+     * @param tiles           поведінка тайлів мапи
+     * @param mergeCollisions чи об'єднувати повні суцільні тайли у великі прямокутники
+     */
+    public LevelDataBuilder(int width, int height, int tileSize, TileRegistry tiles, boolean mergeCollisions) {
+        this.data = new LevelData(new SolidityGrid(width, height, tileSize));
+        this.tiles = tiles;
+        this.mergeCollisions = mergeCollisions;
+    }
+
+    /**
+     * Додає шар тайлів. Суцільні, небезпечні та ефектні клітинки всіх шарів позначаються
+     * у бітовій масці, клітинки неповної форми — таблицею форм і своїм обмежувальним прямокутником.
+     * Повні суцільні клітинки лише рахуються (або додаються окремо, якщо об'єднання вимкнено).
+     *
+     * @param gids ідентифікатори тайлів шару, індекс {@code row * width + col}, рядок 0 — нижній; 0 — порожньо
+     */
+    public void addTileLayer(int[] gids) {
+        checkLayer(gids);
+        Band band = new Band();
+        classify(gids, 0, data.width, band);
+        apply(band);
+    }
+
+    /**
+     * Додає шари тайлів, обробляючи їх паралельно смугами по {@link #BAND_COLUMNS} стовпчиків.
+     * Кожна смуга пише у власний буфер, а буфери застосовуються по черзі (шар за шаром, смуга за смугою),
+     * тож результат такий самий, як при послідовних викликах {@link #addTileLayer(int[])}.
+     *
+     * @param layers ідентифікатори тайлів шарів у порядку мапи (як у {@link #addTileLayer(int[])})
+     * @param pool   пул потоків
+     */
+    public void addTileLayers(List<int[]> layers, ForkJoinPool pool) {
+        for (int[] gids : layers) checkLayer(gids);
+        int bandsPerLayer = (data.width + BAND_COLUMNS - 1) / BAND_COLUMNS;
+        Band[] bands = new Band[layers.size() * bandsPerLayer];
+        pool.invoke(new ClassifyTask(layers, bandsPerLayer, bands, 0, bands.length));
+        for (Band band : bands) apply(band);
+    }
+
+    private void checkLayer(int[] gids) {
+        if (gids.length != data.width * data.height)
+            throw new IllegalArgumentException("Layer size " + gids.length + " does not match map " + data.width + "x" + data.height);
+    }
+
+    /**
+     * Класифікує клітинки стовпчиків [{@code fromCol}, {@code toCol}) шару у буфер смуги.
+     * Не змінює спільних даних, тому смуги можна обробляти одночасно.
+     */
+    private void classify(int[] gids, int fromCol, int toCol, Band out) {
+        int width = data.width, height = data.height, tileSize = data.tileSize;
+        for (int x = fromCol; x < toCol; x++) {
+            for (int y = 0; y < height; y++) {
+                int gid = gids[y * width + x];
+                if (gid == 0) continue;
+
+                TileKind tileType = tiles.get(gid);
+                if (tileType == null) continue;
+
+                int tileX = x * tileSize;
+                int tileY = y * tileSize;
+                int cell = tileType.getEffectType() != TileTyped.TileEffectType.NONE ? Band.EFFECT : 0;
+
+                if (tileType.getEffectType() == TileTyped.TileEffectType.SPIKE) {
+                    cell |= Band.HAZARD;
+                    out.hazardRects.add(HazardIndex.tileShape(tileType.getShape(), tileX, tileY, tileSize));
+                    out.hazardTiles.add(gid);
+                } else if (tileType.getEffectType() == TileTyped.TileEffectType.CRUMBLING) {
+                    out.crumblingCells.add(x, y);
+                } else if (tileType.getEffectType() == TileTyped.TileEffectType.JUMP_PAD) {
+                    out.jumpPadCells.add(x, y);
+                } else if (tileType.getEffectType() == TileTyped.TileEffectType.CHECK_POINT) {
+                    out.checkPointCells.add(x, y);
+                }
+                else if (tileType.isCollidable()) {
+                    TileShape shape = tileType.getShape();
+                    cell |= Band.SHAPE | shape.ordinal() << Band.SHAPE_SHIFT;
+                    if (shape != TileShape.FULL)
+                        out.collisionRects.add(new Rectangle(tileX + shape.offsetX(tileSize),
+                            tileY + shape.offsetY(tileSize), shape.width(tileSize), shape.height(tileSize)));
+                    else {
+                        out.fullTileCount++;
+                        if (!mergeCollisions)
+                            out.collisionRects.add(new Rectangle(tileX, tileY, tileSize, tileSize));
+                    }
+                }
+                if (cell != 0) out.cells.add(x, y, cell);
+            }
+        }
+    }
+
+    /**
+     * Переносить буфер смуги у дані рівня.
+     */
+    private void apply(Band band) {
+        SolidityGrid grid = data.grid;
+        IntArray cells = band.cells;
+        for (int i = 0; i < cells.size; i += 3) {
+            int x = cells.get(i), y = cells.get(i + 1), cell = cells.get(i + 2);
+            if ((cell & Band.EFFECT) != 0) grid.setEffect(x, y);
+            if ((cell & Band.HAZARD) != 0) grid.setHazard(x, y);
+            if ((cell & Band.SHAPE) != 0) grid.setShape(x, y, SHAPES[cell >>> Band.SHAPE_SHIFT]);
+        }
+        data.fullTileCount += band.fullTileCount;
+        data.collisionRects.addAll(band.collisionRects);
+        data.hazardRects.addAll(band.hazardRects);
+        data.hazardTiles.addAll(band.hazardTiles);
+        data.crumblingCells.addAll(band.crumblingCells);
+        data.jumpPadCells.addAll(band.jumpPadCells);
+        data.checkPointCells.addAll(band.checkPointCells);
+    }
+
+    /**
+     * Зберігає у даних рівня ідентифікатори та прапорці клітинок шарів тайлів, з яких гра
+     * будує {@link Assembly.Enjoyers.Map.TileGrid} без обходу клітинок мапи. Масиви не копіюються.
+     *
+     * @param gids  ідентифікатори тайлів шарів у порядку мапи (як у {@link #addTileLayer(int[])})
+     * @param flags прапорці віддзеркалення та повороту клітинок кожного шару
+     */
+    public void setTileLayers(List<int[]> gids, List<byte[]> flags) {
+        if (gids.size() != flags.size()) throw new IllegalArgumentException("Every layer needs its flags");
+        data.tileIds.clear();
+        data.tileFlags.clear();
+        for (int i = 0; i < gids.size(); i++) {
+            checkLayer(gids.get(i));
+            if (flags.get(i).length != gids.get(i).length)
+                throw new IllegalArgumentException("Flags of layer " + i + " do not match its size");
+            data.tileIds.add(IntBuffer.wrap(gids.get(i)));
+            data.tileFlags.add(ByteBuffer.wrap(flags.get(i)));
+        }
+    }
+
+    /**
+     * Додає шлях рухомої платформи.
+     */
+    public void addPlatform(LevelData.PlatformPath platform) {
+        data.platforms.add(platform);
+    }
+
+    /**
+     * Задає точку появи гравця.
+     */
+    public void setSpawn(float x, float y) {
+        data.hasSpawn = true;
+        data.spawnX = x;
+        data.spawnY = y;
+    }
+
+    /**
+     * Задає зону фінішу рівня.
+     */
+    public void setExit(Rectangle exit) {
+        data.exit = exit;
+    }
+
+    /**
+     * Задає хеш вихідних файлів мапи.
+     */
+    public void setSourceHash(long sourceHash) {
+        data.sourceHash = sourceHash;
+    }
+
+    /**
+     * Завершує побудову: за потреби жадібно зливає повні суцільні клітинки у максимальні прямокутники
+     * та будує просторовий індекс прямокутників колізій.
+     *
+     * @return готові дані рівня
+     */
+    public LevelData build() {
+        if (built) throw new IllegalStateException("Level data already built");
+        built = true;
+        if (mergeCollisions)
+            CollisionMerger.merge(data.grid, data.collisionRects);
+        data.collisionGrid = new SpatialGrid(data.collisionRects, data.width * data.tileSize,
+            data.height * data.tileSize, SpatialGrid.DEFAULT_CELL_SIZE);
+        return data;
+    }
+
+    /**
+     * Результат класифікації однієї смуги одного шару.
+     */
+    private static final class Band {
+        /** Прапорці клітинки у {@link #cells}: ефект, шип, форма колізії (номер форми — у старших бітах). */
+        static final int EFFECT = 1, HAZARD = 1 << 1, SHAPE = 1 << 2, SHAPE_SHIFT = 3;
+
+        /** Трійки (стовпчик, рядок, прапорці) клітинок, що змінюють маску. */
+        final IntArray cells = new IntArray();
+        final List<Rectangle> collisionRects = new ArrayList<>();
+        final List<Rectangle> hazardRects = new ArrayList<>();
+        final IntArray hazardTiles = new IntArray();
+        final IntArray crumblingCells = new IntArray();
+        final IntArray jumpPadCells = new IntArray();
+        final IntArray checkPointCells = new IntArray();
+        int fullTileCount;
+    }
+
+    /**
+     * Задача fork-join, що ділить діапазон смуг навпіл, доки не лишиться одна.
+     * Смуга з номером {@code i} — це стовпчики {@code (i % bandsPerLayer) * BAND_COLUMNS...} шару {@code i / bandsPerLayer}.
+     */
+    private final class ClassifyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<int[]> layers;
+        private final int bandsPerLayer;
+        private final Band[] bands;
+        private final int from, to;
+
+        ClassifyTask(List<int[]> layers, int bandsPerLayer, Band[] bands, int from, int to) {
+            this.layers = layers;
+            this.bandsPerLayer = bandsPerLayer;
+            this.bands = bands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int fromCol = from % bandsPerLayer * BAND_COLUMNS;
+                Band band = new Band();
+                classify(layers.get(from / bandsPerLayer), fromCol, Math.min(fromCol + BAND_COLUMNS, data.width), band);
+                bands[from] = band;
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ClassifyTask(layers, bandsPerLayer, bands, from, mid),
+                new ClassifyTask(layers, bandsPerLayer, bands, mid, to));
+        }
+    }
+}
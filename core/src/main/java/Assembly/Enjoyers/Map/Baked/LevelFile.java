@@ -0,0 +1,263 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.function.Function;
+
+/**
+ * Двійковий формат запечених даних рівня ({@code map.level} поруч із {@code map.tmx}).
+ * <p>
+ * Заголовок: сигнатура {@link #MAGIC}, версія формату {@link #VERSION} та хеш вихідних файлів
+ * ({@link #sourceHash(byte[], Function)}).
+ * Далі — маска клітинок ({@link SolidityGrid#write(DataOutputStream)}), прямокутники колізій
+ * та їх просторовий індекс ({@link SpatialGrid#write(DataOutputStream)}), шипи, клітинки об'єктів,
+ * рухомі платформи, точка появи та фініш, а наприкінці — ідентифікатори та прапорці клітинок
+ * кожного шару тайлів. Великі секції вирівняні на 8 байтів, тому файл читається прямо
+ * з відображеного у пам'ять буфера: маска копіюється одним блоком, прямокутники колізій
+ * створюються ліниво ({@link MappedRects}), а шари тайлів лишаються представленнями буфера. Файл іншої версії
+ * не читається; файл з іншим хешем застарілий, і гра може використати його лише до перебудови ({@link LevelCache}).
+ */
+public final class LevelFile {
+    /** Сигнатура файлу: "KALV" (Knight Adventure LeVel). */
+    public static final int MAGIC = 0x4B414C56;
+    /** Версія формату; збільшується при будь-якій зміні розкладки або правил класифікації тайлів. */
+    public static final int VERSION = 4;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private LevelFile() {
+    }
+
+    /**
+     * Записує дані рівня у потік. Потік має починатися з початку файлу, бо вирівнювання
+     * секцій рахується від нього.
+     *
+     * @param data дані рівня
+     * @param out  потік виведення (не закривається)
+     * @throws IOException у разі помилки запису
+     */
+    public static void write(LevelData data, OutputStream out) throws IOException {
+        DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(out));
+        stream.writeInt(MAGIC);
+        stream.writeInt(VERSION);
+        stream.writeLong(data.sourceHash);
+
+        data.grid.write(stream);
+        stream.writeInt(data.fullTileCount);
+        stream.writeInt(data.collisionRects.size());
+        for (Rectangle rect : data.collisionRects) writeRect(stream, rect);
+        while (stream.size() % Long.BYTES != 0) stream.writeByte(0);
+        data.collisionGrid.write(stream);
+
+        stream.writeInt(data.hazardRects.size());
+        for (Rectangle rect : data.hazardRects) writeRect(stream, rect);
+        writeInts(stream, data.hazardTiles);
+        writeInts(stream, data.crumblingCells);
+        writeInts(stream, data.jumpPadCells);
+        writeInts(stream, data.checkPointCells);
+
+        stream.writeInt(data.platforms.size());
+        for (LevelData.PlatformPath platform : data.platforms) {
+            float[] path = platform.getPath();
+            stream.writeInt(path.length);
+            for (float value : path) stream.writeFloat(value);
+            stream.writeFloat(platform.getWidth());
+            stream.writeFloat(platform.getHeight());
+            stream.writeFloat(platform.getSpeed());
+            stream.writeBoolean(platform.isLoop());
+        }
+
+        stream.writeBoolean(data.hasSpawn);
+        stream.writeFloat(data.spawnX);
+        stream.writeFloat(data.spawnY);
+        stream.writeBoolean(data.exit != null);
+        if (data.exit != null) writeRect(stream, data.exit);
+
+        stream.writeInt(data.tileIds.size());
+        for (int layer = 0; layer < data.tileIds.size(); layer++) {
+            while (stream.size() % Long.BYTES != 0) stream.writeByte(0);
+            IntBuffer ids = data.tileIds.get(layer);
+            for (int i = 0; i < ids.limit(); i++) stream.writeInt(ids.get(i));
+            ByteBuffer flags = data.tileFlags.get(layer);
+            for (int i = 0; i < flags.limit(); i++) stream.writeByte(flags.get(i));
+        }
+        stream.flush();
+    }
+
+    /**
+     * Читає дані рівня з буфера (відображеного у пам'ять файлу або прочитаного в купу).
+     * Прямокутники колізій не копіюються: список посилається на буфер і створює
+     * прямокутник лише при першому зверненні.
+     *
+     * @param buffer       вміст файлу, позиція на початку
+     * @param expectedHash очікуваний хеш вихідних файлів рівня
+     * @return дані рівня або null, якщо файл іншої версії чи побудований з іншого TMX
+     * @throws IOException у разі пошкодженого файлу
+     */
+    public static LevelData read(ByteBuffer buffer, long expectedHash) throws IOException {
+        return read(buffer, expectedHash, false);
+    }
+
+    /**
+     * Читає дані рівня з буфера незалежно від хешу вихідних файлів; чи дані актуальні,
+     * вирішує викликач за {@link LevelData#getSourceHash()}.
+     *
+     * @param buffer вміст файлу, позиція на початку
+     * @return дані рівня або null, якщо файл іншої версії
+     * @throws IOException у разі пошкодженого файлу
+     */
+    public static LevelData read(ByteBuffer buffer) throws IOException {
+        return read(buffer, 0, true);
+    }
+
+    private static LevelData read(ByteBuffer buffer, long expectedHash, boolean anyHash) throws IOException {
+        // DataOutputStream пише big-endian, а FileHandle.map() встановлює нативний порядок байтів.
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        try {
+            return readSections(buffer, expectedHash, anyHash);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated baked level file", e);
+        }
+    }
+
+    private static LevelData readSections(ByteBuffer buffer, long expectedHash, boolean anyHash) throws IOException {
+        if (buffer.getInt() != MAGIC) throw new IOException("Not a baked level file");
+        if (buffer.getInt() != VERSION) return null;
+        long sourceHash = buffer.getLong();
+        if (!anyHash && sourceHash != expectedHash) return null;
+
+        LevelData data = new LevelData(SolidityGrid.read(buffer));
+        data.sourceHash = sourceHash;
+        data.fullTileCount = buffer.getInt();
+
+        int rects = readCount(buffer);
+        FloatBuffer bounds = slice(buffer, rects * 4 * Float.BYTES).asFloatBuffer();
+        align(buffer);
+        data.collisionRects = new MappedRects(bounds);
+        data.collisionGrid = SpatialGrid.read(data.collisionRects, buffer);
+
+        int hazards = readCount(buffer);
+        for (int i = 0; i < hazards; i++) data.hazardRects.add(readRect(buffer));
+        readInts(buffer, data.hazardTiles);
+        readInts(buffer, data.crumblingCells);
+        readInts(buffer, data.jumpPadCells);
+        readInts(buffer, data.checkPointCells);
+        if (data.hazardTiles.size != data.hazardRects.size())
+            throw new IOException("Hazard tiles do not match hazard rects");
+
+        int platforms = readCount(buffer);
+        for (int i = 0; i < platforms; i++) {
+            float[] path = new float[readCount(buffer)];
+            buffer.asFloatBuffer().get(path);
+            buffer.position(buffer.position() + path.length * Float.BYTES);
+            data.platforms.add(new LevelData.PlatformPath(path, buffer.getFloat(), buffer.getFloat(),
+                buffer.getFloat(), buffer.get() != 0));
+        }
+
+        data.hasSpawn = buffer.get() != 0;
+        data.spawnX = buffer.getFloat();
+        data.spawnY = buffer.getFloat();
+        if (buffer.get() != 0) data.exit = readRect(buffer);
+
+        int layers = readCount(buffer), cells = data.width * data.height;
+        for (int layer = 0; layer < layers; layer++) {
+            align(buffer);
+            data.tileIds.add(slice(buffer, cells * Integer.BYTES).asIntBuffer());
+            data.tileFlags.add(slice(buffer, cells));
+        }
+        return data;
+    }
+
+    /**
+     * Обчислює хеш вихідних файлів рівня: TMX і всіх зовнішніх тайлсетів (.tsx), на які він посилається.
+     * Тайлсет, якого немає, у хеш не входить, тож його поява теж змінює хеш.
+     *
+     * @param tmx      вміст TMX-файлу
+     * @param tilesets повертає вміст тайлсету за шляхом з атрибута {@code source} (відносно TMX) або null
+     * @return хеш
+     */
+    public static long sourceHash(byte[] tmx, Function<String, byte[]> tilesets) {
+        long hash = hash(FNV_OFFSET, tmx);
+        for (String source : TmxReader.tilesetSources(tmx)) {
+            byte[] tileset = tilesets.apply(source);
+            if (tileset != null) hash = hash(hash, tileset);
+        }
+        return hash;
+    }
+
+    /**
+     * Обчислює 64-бітний FNV-1a хеш вмісту файлу.
+     *
+     * @param bytes вміст
+     * @return хеш
+     */
+    public static long hash(byte[] bytes) {
+        return hash(FNV_OFFSET, bytes);
+    }
+
+    private static long hash(long hash, byte[] bytes) {
+        for (byte value : bytes) {
+            hash ^= value & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static void writeRect(DataOutputStream out, Rectangle rect) throws IOException {
+        out.writeFloat(rect.x);
+        out.writeFloat(rect.y);
+        out.writeFloat(rect.width);
+        out.writeFloat(rect.height);
+    }
+
+    private static void writeInts(DataOutputStream out, IntArray values) throws IOException {
+        out.writeInt(values.size);
+        for (int i = 0; i < values.size; i++) out.writeInt(values.get(i));
+    }
+
+    private static Rectangle readRect(ByteBuffer in) {
+        return new Rectangle(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+    }
+
+    private static void readInts(ByteBuffer in, IntArray out) throws IOException {
+        int count = readCount(in);
+        out.ensureCapacity(count);
+        for (int i = 0; i < count; i++) out.add(in.getInt());
+    }
+
+    /**
+     * Повертає підбуфер заданої довжини з поточної позиції і пересуває позицію за нього.
+     */
+    private static ByteBuffer slice(ByteBuffer in, int length) throws IOException {
+        if (in.remaining() < length) throw new IOException("Truncated baked level file");
+        ByteBuffer slice = in.slice().limit(length);
+        in.position(in.position() + length);
+        return slice;
+    }
+
+    private static void align(ByteBuffer in) {
+        while (in.position() % Long.BYTES != 0) in.get();
+    }
+
+    /**
+     * Читає кількість елементів секції, відкидаючи явно пошкоджені значення.
+     */
+    private static int readCount(ByteBuffer in) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || count > 1 << 26) throw new IOException("Invalid section size: " + count);
+        return count;
+    }
+}
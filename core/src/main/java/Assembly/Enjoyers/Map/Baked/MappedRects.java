@@ -0,0 +1,51 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.nio.FloatBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Незмінний список прямокутників поверх секції запеченого файлу (x, y, ширина, висота підряд).
+ * Прямокутник створюється лише при першому зверненні до нього й надалі повертається той самий,
+ * тож геометрія рівня живе у відображеному файлі, а в купі — лише прямокутники регіонів,
+ * до яких зверталися запити {@link Assembly.Enjoyers.Map.Collision.SpatialGrid}.
+ */
+final class MappedRects extends AbstractList<Rectangle> implements RandomAccess {
+    private FloatBuffer bounds;
+    private Rectangle[] decoded;
+
+    /**
+     * @param bounds буфер з координатами прямокутників, по 4 значення на прямокутник
+     */
+    MappedRects(FloatBuffer bounds) {
+        this.bounds = bounds;
+        this.decoded = new Rectangle[bounds.capacity() / 4];
+    }
+
+    @Override
+    public Rectangle get(int index) {
+        Rectangle rect = decoded[index];
+        if (rect == null) {
+            int offset = index * 4;
+            rect = new Rectangle(bounds.get(offset), bounds.get(offset + 1), bounds.get(offset + 2), bounds.get(offset + 3));
+            decoded[index] = rect;
+        }
+        return rect;
+    }
+
+    @Override
+    public int size() {
+        return decoded.length;
+    }
+
+    /**
+     * Відпускає буфер і створені прямокутники; список стає порожнім.
+     */
+    @Override
+    public void clear() {
+        bounds = FloatBuffer.allocate(0);
+        decoded = new Rectangle[0];
+    }
+}
@@ -0,0 +1,312 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import Assembly.Enjoyers.Map.TileGrid;
+import Assembly.Enjoyers.Map.TileRegistry;
+import com.badlogic.gdx.math.Rectangle;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Читає з TMX-файлу лише те, що потрібно для {@link LevelData}: поведінку тайлів з тайлсетів
+ * ({@link TileRegistry}), шари тайлів верхнього рівня (ідентифікатори та віддзеркалення клітинок) та об'єктні шари "Platforms" і "Level". Не використовує libGDX-завантажувач і текстури,
+ * тому працює під час збірки без графічного контексту.
+ * <p>
+ * Підтримуються скінченні мапи з даними шарів у CSV або base64 (без стиснення, zlib, gzip).
+ * Координати перетворюються так само, як у libGDX: рядок 0 — нижній, вісь Y спрямована вгору.
+ */
+public final class TmxReader {
+    /** Біти віддзеркалення та повороту у старших розрядах ідентифікатора тайла. */
+    private static final int FLIP_MASK = 0x1FFFFFFF;
+    private static final int FLIP_HORIZONTALLY = 0x80000000, FLIP_VERTICALLY = 0x40000000, FLIP_DIAGONALLY = 0x20000000;
+    private static final Pattern TILESET_SOURCE = Pattern.compile("<tileset\\b[^>]*?\\bsource=\"([^\"]+)\"");
+
+    private TmxReader() {
+    }
+
+    /**
+     * Знаходить шляхи зовнішніх тайлсетів ({@code <tileset source="...">}) без повного розбору XML.
+     *
+     * @param tmx вміст TMX-файлу
+     * @return шляхи відносно TMX у порядку появи
+     */
+    public static List<String> tilesetSources(byte[] tmx) {
+        List<String> sources = new ArrayList<>();
+        Matcher matcher = TILESET_SOURCE.matcher(new String(tmx, StandardCharsets.UTF_8));
+        while (matcher.find()) sources.add(matcher.group(1));
+        return sources;
+    }
+
+    /**
+     * Читає користувацькі властивості самої мапи ({@code <map><properties>}).
+     *
+     * @param tmx вміст TMX-файлу
+     * @return значення властивостей за іменами у порядку появи
+     * @throws IOException якщо файл некоректний
+     */
+    public static Map<String, String> properties(byte[] tmx) throws IOException {
+        Map<String, String> result = new LinkedHashMap<>();
+        Element properties = child(parse(tmx).getDocumentElement(), "properties");
+        if (properties == null) return result;
+        for (Node node = properties.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element property && "property".equals(property.getTagName()))
+                result.put(property.getAttribute("name"), property.getAttribute("value"));
+        }
+        return result;
+    }
+
+    /**
+     * Будує дані рівня з вмісту TMX-файлу. Повні суцільні клітинки завжди об'єднуються.
+     *
+     * @param tmx        вміст TMX-файлу
+     * @param sourceHash хеш вихідних файлів ({@link LevelFile#sourceHash})
+     * @param tilesets   вміст зовнішнього тайлсету за шляхом відносно TMX або null, якщо його немає
+     * @return дані рівня
+     * @throws IOException якщо файл некоректний або використовує непідтримувані можливості
+     */
+    public static LevelData read(byte[] tmx, long sourceHash, Function<String, byte[]> tilesets) throws IOException {
+        return read(tmx, sourceHash, tilesets, true);
+    }
+
+    /**
+     * Будує дані рівня з вмісту TMX-файлу.
+     *
+     * @param tmx             вміст TMX-файлу
+     * @param sourceHash      хеш вихідних файлів ({@link LevelFile#sourceHash})
+     * @param tilesets        вміст зовнішнього тайлсету за шляхом відносно TMX або null, якщо його немає
+     * @param mergeCollisions чи об'єднувати повні суцільні клітинки у великі прямокутники
+     * @return дані рівня
+     * @throws IOException якщо файл некоректний або використовує непідтримувані можливості
+     */
+    public static LevelData read(byte[] tmx, long sourceHash, Function<String, byte[]> tilesets,
+                                 boolean mergeCollisions) throws IOException {
+        Element map = parse(tmx).getDocumentElement();
+        if (!"map".equals(map.getTagName())) throw new IOException("Not a TMX map");
+        if ("1".equals(map.getAttribute("infinite"))) throw new IOException("Infinite maps are not supported");
+
+        int width = intAttribute(map, "width");
+        int height = intAttribute(map, "height");
+        int tileSize = intAttribute(map, "tilewidth");
+        LevelDataBuilder builder = new LevelDataBuilder(width, height, tileSize, readTiles(map, tilesets), mergeCollisions);
+        builder.setSourceHash(sourceHash);
+
+        List<int[]> layers = new ArrayList<>();
+        List<byte[]> flags = new ArrayList<>();
+        for (Node node = map.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!(node instanceof Element element)) continue;
+            switch (element.getTagName()) {
+                case "layer" -> {
+                    int[] gids = readLayer(element, width, height);
+                    flags.add(splitFlags(gids));
+                    layers.add(gids);
+                }
+                case "objectgroup" -> readObjects(element, builder, height * intAttribute(map, "tileheight"), tileSize);
+                default -> { }
+            }
+        }
+        builder.addTileLayers(layers, ForkJoinPool.commonPool());
+        builder.setTileLayers(layers, flags);
+        return builder.build();
+    }
+
+    /**
+     * Збирає поведінку тайлів з усіх тайлсетів мапи, вбудованих і зовнішніх.
+     */
+    private static TileRegistry readTiles(Element map, Function<String, byte[]> tilesets) throws IOException {
+        TileRegistry.Builder tiles = new TileRegistry.Builder();
+        for (Node node = map.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!(node instanceof Element tileset) || !"tileset".equals(tileset.getTagName())) continue;
+            int firstGid = intAttribute(tileset, "firstgid");
+            String source = tileset.getAttribute("source");
+            if (!source.isEmpty()) {
+                byte[] tsx = tilesets.apply(source);
+                if (tsx == null) throw new IOException("Missing tileset " + source);
+                tileset = parse(tsx).getDocumentElement();
+            }
+
+            for (Node child = tileset.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (!(child instanceof Element tile) || !"tile".equals(tile.getTagName())) continue;
+                String type = tile.hasAttribute("type") ? tile.getAttribute("type") : null;
+                tiles.addTile(firstGid + intAttribute(tile, "id"), type, key -> property(tile, key, null));
+            }
+        }
+        return tiles.build();
+    }
+
+    /**
+     * Відокремлює біти віддзеркалення від ідентифікаторів шару: ідентифікатори очищуються на місці,
+     * а прапорці повертаються у форматі {@link TileGrid} з тим самим перетворенням діагонального
+     * віддзеркалення на поворот, що й у libGDX-завантажувачі.
+     */
+    private static byte[] splitFlags(int[] gids) {
+        byte[] flags = new byte[gids.length];
+        for (int i = 0; i < gids.length; i++) {
+            int gid = gids[i];
+            if ((gid & ~FLIP_MASK) == 0) continue;
+            boolean horizontal = (gid & FLIP_HORIZONTALLY) != 0, vertical = (gid & FLIP_VERTICALLY) != 0;
+            if ((gid & FLIP_DIAGONALLY) == 0) flags[i] = TileGrid.packFlags(horizontal, vertical, 0);
+            else if (horizontal && vertical) flags[i] = TileGrid.packFlags(true, false, 3);
+            else if (horizontal) flags[i] = TileGrid.packFlags(false, false, 3);
+            else if (vertical) flags[i] = TileGrid.packFlags(false, false, 1);
+            else flags[i] = TileGrid.packFlags(false, true, 3);
+            gids[i] = gid & FLIP_MASK;
+        }
+        return flags;
+    }
+
+    /**
+     * Читає шар тайлів у масив з рядком 0 внизу; біти віддзеркалення лишаються в ідентифікаторах.
+     */
+    private static int[] readLayer(Element layer, int width, int height) throws IOException {
+        if (intAttribute(layer, "width") != width || intAttribute(layer, "height") != height)
+            throw new IOException("Layer " + layer.getAttribute("name") + " does not match map size");
+
+        Element data = child(layer, "data");
+        if (data == null) throw new IOException("Layer " + layer.getAttribute("name") + " has no data");
+        if (child(data, "chunk") != null) throw new IOException("Chunked layer data is not supported");
+
+        int[] topDown = new int[width * height];
+        String encoding = data.getAttribute("encoding");
+        if ("csv".equals(encoding)) {
+            String[] values = data.getTextContent().trim().split("\\s*,\\s*");
+            if (values.length != topDown.length) throw new IOException("CSV layer size mismatch");
+            for (int i = 0; i < values.length; i++)
+                topDown[i] = (int) Long.parseLong(values[i]);
+        } else if ("base64".equals(encoding)) {
+            byte[] bytes = decompress(Base64.getMimeDecoder().decode(data.getTextContent().trim()),
+                data.getAttribute("compression"));
+            if (bytes.length != topDown.length * 4) throw new IOException("Base64 layer size mismatch");
+            for (int i = 0; i < topDown.length; i++) {
+                int offset = i * 4;
+                topDown[i] = (bytes[offset] & 0xff) | (bytes[offset + 1] & 0xff) << 8
+                    | (bytes[offset + 2] & 0xff) << 16 | (bytes[offset + 3] & 0xff) << 24;
+            }
+        } else throw new IOException("Unsupported layer encoding: " + (encoding.isEmpty() ? "xml" : encoding));
+
+        int[] gids = new int[topDown.length];
+        for (int row = 0; row < height; row++)
+            for (int col = 0; col < width; col++)
+                gids[(height - 1 - row) * width + col] = topDown[row * width + col];
+        return gids;
+    }
+
+    private static byte[] decompress(byte[] bytes, String compression) throws IOException {
+        if (compression.isEmpty()) return bytes;
+        InputStream in = switch (compression) {
+            case "zlib" -> new InflaterInputStream(new ByteArrayInputStream(bytes));
+            case "gzip" -> new GZIPInputStream(new ByteArrayInputStream(bytes));
+            default -> throw new IOException("Unsupported layer compression: " + compression);
+        };
+        try (in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            in.transferTo(out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Читає рухомі платформи з шару "Platforms" та точку появи і фініш з шару "Level".
+     */
+    private static void readObjects(Element group, LevelDataBuilder builder, float mapHeight, int tileSize) {
+        String name = group.getAttribute("name");
+        if (!"Platforms".equals(name) && !"Level".equals(name)) return;
+
+        NodeList objects = group.getElementsByTagName("object");
+        for (int i = 0; i < objects.getLength(); i++) {
+            Element object = (Element) objects.item(i);
+            float x = floatAttribute(object, "x", 0), y = floatAttribute(object, "y", 0);
+
+            if ("Platforms".equals(name)) {
+                Element polyline = child(object, "polyline"), polygon = child(object, "polygon");
+                Element points = polyline != null ? polyline : polygon;
+                if (points == null) continue;
+
+                String[] pairs = points.getAttribute("points").trim().split("\\s+");
+                float[] path = new float[pairs.length * 2];
+                for (int p = 0; p < pairs.length; p++) {
+                    String[] pair = pairs[p].split(",");
+                    path[p * 2] = x + Float.parseFloat(pair[0]);
+                    path[p * 2 + 1] = mapHeight - y - Float.parseFloat(pair[1]);
+                }
+                boolean loop = polygon != null || Boolean.parseBoolean(property(object, "loop", "false"));
+                builder.addPlatform(new LevelData.PlatformPath(path,
+                    Float.parseFloat(property(object, "platformWidth", "3")) * tileSize,
+                    Float.parseFloat(property(object, "platformHeight", "1")) * tileSize,
+                    Float.parseFloat(property(object, "speed", "100")), loop));
+            } else {
+                float objectWidth = floatAttribute(object, "width", 0), objectHeight = floatAttribute(object, "height", 0);
+                float bottom = mapHeight - y - objectHeight;
+                switch (object.getAttribute("name")) {
+                    case "spawn" -> builder.setSpawn(x, bottom);
+                    case "exit" -> builder.setExit(new Rectangle(x, bottom, objectWidth, objectHeight));
+                    default -> { }
+                }
+            }
+        }
+    }
+
+    /**
+     * Повертає значення користувацької властивості об'єкта чи тайла або значення за замовчуванням.
+     */
+    private static String property(Element object, String key, String defaultValue) {
+        Element properties = child(object, "properties");
+        if (properties == null) return defaultValue;
+        for (Node node = properties.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element property && key.equals(property.getAttribute("name")))
+                return property.getAttribute("value");
+        }
+        return defaultValue;
+    }
+
+    private static Element child(Element parent, String tag) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element element && tag.equals(element.getTagName())) return element;
+        }
+        return null;
+    }
+
+    private static int intAttribute(Element element, String name) throws IOException {
+        try {
+            return Integer.parseInt(element.getAttribute(name));
+        } catch (NumberFormatException e) {
+            throw new IOException("Missing or invalid attribute " + name + " on <" + element.getTagName() + ">", e);
+        }
+    }
+
+    private static float floatAttribute(Element element, String name, float defaultValue) {
+        String value = element.getAttribute(name);
+        return value.isEmpty() ? defaultValue : Float.parseFloat(value);
+    }
+
+    private static Document parse(byte[] tmx) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setExpandEntityReferences(false);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newDocumentBuilder().parse(new ByteArrayInputStream(tmx));
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Invalid TMX: " + e.getMessage(), e);
+        }
+    }
+}
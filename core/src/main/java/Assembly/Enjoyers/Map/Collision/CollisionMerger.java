@@ -0,0 +1,62 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.List;
+
+/**
+ * Жадібне об'єднання суцільних клітинок мапи у великі прямокутники колізій.
+ * Спершу розширює прямокутник уздовж рядка, потім нарощує його вгору, поки весь
+ * відрізок наступного рядка теж суцільний. Об'єднання покриває рівно ту саму площу,
+ * що й окремі тайли, тому перевірки перетину дають той самий результат.
+ */
+public class CollisionMerger {
+    /**
+     * Об'єднує суцільні клітинки у максимальні прямокутники.
+     *
+     * @param solid маска суцільних клітинок мапи
+     * @param out   список, до якого додаються об'єднані прямокутники
+     * @return кількість доданих прямокутників
+     */
+    public static int merge(SolidityGrid solid, List<Rectangle> out) {
+        int width = solid.getWidth();
+        int height = solid.getHeight();
+        int tileSize = solid.getTileSize();
+        boolean[] used = new boolean[width * height];
+        int count = 0;
+
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int start = row * width + col;
+                if (!solid.isSolid(col, row) || used[start]) continue;
+
+                int runWidth = 1;
+                while (col + runWidth < width && solid.isSolid(col + runWidth, row) && !used[start + runWidth])
+                    runWidth++;
+
+                int runHeight = 1;
+                while (row + runHeight < height && isFreeRun(solid, used, col, row + runHeight, runWidth))
+                    runHeight++;
+
+                for (int r = row; r < row + runHeight; r++)
+                    for (int c = col; c < col + runWidth; c++)
+                        used[r * width + c] = true;
+
+                out.add(new Rectangle(col * tileSize, row * tileSize, runWidth * tileSize, runHeight * tileSize));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Перевіряє, чи відрізок рядка повністю суцільний і ще не увійшов до іншого прямокутника.
+     */
+    private static boolean isFreeRun(SolidityGrid solid, boolean[] used, int col, int row, int length) {
+        int start = row * solid.getWidth() + col;
+        for (int i = 0; i < length; i++) {
+            if (!solid.isSolid(col + i, row) || used[start + i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Світ колізій рівня: статична геометрія (бітова маска клітинок), що будується один раз,
+ * та динамічні тіла, які самі реєструються, виходять зі світу при зміні стану (crumble-блоки)
+ * або рухаються (платформи). Динамічні тіла лежать у власній сітці {@link DynamicGrid},
+ * тож запит перевіряє лише тіла поруч. Гравець робить усі запити через цей клас, тому вартість
+ * кадру залежить від кількості змін, а не від розміру рівня.
+ */
+public class CollisionWorld {
+    private final SolidityGrid staticGrid;
+    private final DynamicGrid dynamicBodies;
+
+    /**
+     * Створює світ колізій поверх статичної маски клітинок.
+     *
+     * @param staticGrid бітова маска статичних клітинок мапи
+     */
+    public CollisionWorld(SolidityGrid staticGrid) {
+        this.staticGrid = staticGrid;
+        int tileSize = staticGrid.getTileSize();
+        this.dynamicBodies = new DynamicGrid(staticGrid.getWidth() * tileSize, staticGrid.getHeight() * tileSize,
+            SpatialGrid.DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Додає динамічне тіло до світу. Повторне додавання того самого тіла ігнорується.
+     *
+     * @param body межі тіла (об'єкт зберігається за посиланням)
+     */
+    public void addDynamic(Rectangle body) {
+        dynamicBodies.add(body);
+    }
+
+    /**
+     * Вилучає динамічне тіло зі світу.
+     *
+     * @param body межі тіла, передані раніше в {@link #addDynamic(Rectangle)}
+     */
+    public void removeDynamic(Rectangle body) {
+        dynamicBodies.remove(body);
+    }
+
+    /**
+     * Повідомляє світ, що динамічне тіло змінило координати.
+     *
+     * @param body межі тіла, передані раніше в {@link #addDynamic(Rectangle)}
+     */
+    public void moveDynamic(Rectangle body) {
+        dynamicBodies.update(body);
+    }
+
+    /**
+     * Повертає зсув динамічного тіла під час останнього {@link #moveDynamic(Rectangle)}.
+     *
+     * @param body межі тіла, передані раніше в {@link #addDynamic(Rectangle)}
+     * @param out  вектор, що перезаписується зсувом (нульовим для тіл, які не рухались)
+     * @return {@code out}
+     */
+    public Vector2 getLastMove(Rectangle body, Vector2 out) {
+        return out.set(dynamicBodies.getMoveX(body), dynamicBodies.getMoveY(body));
+    }
+
+    /**
+     * Шукає динамічне тіло, яке перетинає область (наприклад, опору під ногами гравця).
+     *
+     * @param area область перевірки
+     * @return перше знайдене тіло або null
+     */
+    public Rectangle findDynamic(Rectangle area) {
+        return dynamicBodies.find(area);
+    }
+
+    /**
+     * Перевіряє, чи перетинає область статичну геометрію або хоча б одне динамічне тіло.
+     *
+     * @param area область перевірки
+     * @return true, якщо є перетин
+     */
+    public boolean overlaps(Rectangle area) {
+        return staticGrid.overlapsSolid(area) || dynamicBodies.overlaps(area);
+    }
+
+    /**
+     * Шукає найраніше зіткнення прямокутника, що рухається на ({@code dx}, {@code dy}),
+     * зі статичною геометрією та динамічними тілами.
+     *
+     * @param box рухомий прямокутник у початковій позиції
+     * @param dx  зсув по осі X
+     * @param dy  зсув по осі Y
+     * @param hit результат, який оновлюється при ранішому дотику
+     */
+    public void sweep(Rectangle box, float dx, float dy, SweptAabb.Hit hit) {
+        staticGrid.sweepSolid(box, dx, dy, hit);
+        dynamicBodies.sweep(box, dx, dy, hit);
+    }
+
+    /**
+     * Визначає контакти прямокутника (опора, стіни, стеля) зі статичною геометрією
+     * та динамічними тілами за один запит.
+     *
+     * @param box прямокутник, для якого визначаються контакти
+     * @param out контакти, що перезаписуються
+     */
+    public void sense(Rectangle box, Contacts out) {
+        out.clear();
+        staticGrid.senseContacts(box, out);
+        if (!out.complete()) dynamicBodies.senseContacts(box, out);
+    }
+
+    /**
+     * @return бітова маска статичних клітинок мапи
+     */
+    public SolidityGrid getStaticGrid() {
+        return staticGrid;
+    }
+
+    /**
+     * @return кількість динамічних тіл у світі
+     */
+    public int getDynamicCount() {
+        return dynamicBodies.size();
+    }
+}
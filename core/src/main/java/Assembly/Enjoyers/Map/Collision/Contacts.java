@@ -0,0 +1,70 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Контакти прямокутника з оточенням: опора знизу, стіни ліворуч і праворуч, стеля.
+ * Заповнюється одним запитом {@link CollisionWorld#sense(Rectangle, Contacts)} за крок,
+ * після чого логіка стрибка, ковзання та відштовхування від стіни лише читає поля.
+ * <p>
+ * Кожен контакт — перетин тонкого датчика біля відповідної сторони прямокутника
+ * з перешкодою: датчик опори та стелі має товщину 2 пікселі з центром на межі,
+ * бічні датчики — 2 пікселі назовні від межі.
+ */
+public class Contacts {
+    /** Товщина бічних датчиків у пікселях. */
+    static final float SIDE_REACH = 2f;
+    /** Половина товщини датчиків опори та стелі у пікселях. */
+    static final float VERTICAL_REACH = 1f;
+
+    public boolean ground;
+    public boolean left;
+    public boolean right;
+    public boolean ceiling;
+
+    /**
+     * Скидає всі контакти.
+     */
+    public void clear() {
+        ground = false;
+        left = false;
+        right = false;
+        ceiling = false;
+    }
+
+    /**
+     * @return true, якщо є стіна ліворуч або праворуч
+     */
+    public boolean wall() {
+        return left || right;
+    }
+
+    /**
+     * @return true, якщо всі контакти вже знайдено і подальші перевірки нічого не змінять
+     */
+    boolean complete() {
+        return ground && left && right && ceiling;
+    }
+
+    /**
+     * Перевіряє прямокутну перешкоду всіма датчиками одразу.
+     *
+     * @param box прямокутник, для якого визначаються контакти
+     * @param x   координата X перешкоди
+     * @param y   координата Y перешкоди
+     * @param w   ширина перешкоди
+     * @param h   висота перешкоди
+     */
+    void accept(Rectangle box, float x, float y, float w, float h) {
+        float top = box.y + box.height, rightEdge = box.x + box.width;
+
+        if (x < rightEdge && x + w > box.x) {
+            if (y < box.y + VERTICAL_REACH && y + h > box.y - VERTICAL_REACH) ground = true;
+            if (y < top + VERTICAL_REACH && y + h > top - VERTICAL_REACH) ceiling = true;
+        }
+        if (y < top && y + h > box.y) {
+            if (x < box.x && x + w > box.x - SIDE_REACH) left = true;
+            if (x < rightEdge + SIDE_REACH && x + w > rightEdge) right = true;
+        }
+    }
+}
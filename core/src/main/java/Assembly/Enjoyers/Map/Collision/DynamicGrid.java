@@ -0,0 +1,297 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Динамічний просторовий індекс тіл, що з'являються, зникають і рухаються (crumble-блоки,
+ * рухомі платформи). Кожне тіло пам'ятає діапазон клітинок, який займає; після руху
+ * оновлюються лише клітинки, які тіло покинуло або в які увійшло, тож переміщення
+ * сотень платформ не перебудовує індекс.
+ * <p>
+ * Тіла зберігаються за посиланням: після зміни координат прямокутника треба викликати
+ * {@link #update(Rectangle)}. Індекс пам'ятає зсув кожного тіла під час останнього оновлення,
+ * щоб гравця, на якого в'їхала платформа, можна було виштовхнути вздовж її руху.
+ */
+public class DynamicGrid {
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    private final IntArray[] cells;
+
+    private final Reference2IntOpenHashMap<Rectangle> ids = new Reference2IntOpenHashMap<>();
+    private final IntArray freeIds = new IntArray();
+    private Rectangle[] bodies = new Rectangle[16];
+    /** Діапазон клітинок кожного тіла: minCol, maxCol, minRow, maxRow. */
+    private int[] ranges = new int[16 * 4];
+    /** Позиція кожного тіла при останньому оновленні та зсув під час нього: x, y, dx, dy. */
+    private float[] motions = new float[16 * 4];
+    private int[] stamps = new int[16];
+    private int nextStamp;
+    private int bodyCount;
+
+    /**
+     * Створює порожній індекс.
+     *
+     * @param worldWidth  ширина світу у пікселях
+     * @param worldHeight висота світу у пікселях
+     * @param cellSize    розмір клітинки у пікселях
+     */
+    public DynamicGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.cells = new IntArray[cols * rows];
+        ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * Додає тіло до індексу. Повторне додавання того самого тіла ігнорується.
+     *
+     * @param body межі тіла (зберігаються за посиланням)
+     */
+    public void add(Rectangle body) {
+        if (ids.containsKey(body)) return;
+
+        int id = freeIds.size > 0 ? freeIds.pop() : bodyCount++;
+        ensureCapacity(id + 1);
+        bodies[id] = body;
+        ids.put(body, id);
+
+        int base = id * 4;
+        ranges[base] = toCol(body.x);
+        ranges[base + 1] = toCol(body.x + body.width);
+        ranges[base + 2] = toRow(body.y);
+        ranges[base + 3] = toRow(body.y + body.height);
+        for (int row = ranges[base + 2]; row <= ranges[base + 3]; row++)
+            for (int col = ranges[base]; col <= ranges[base + 1]; col++)
+                cell(col, row).add(id);
+
+        motions[base] = body.x;
+        motions[base + 1] = body.y;
+        motions[base + 2] = 0;
+        motions[base + 3] = 0;
+    }
+
+    /**
+     * Вилучає тіло з індексу.
+     *
+     * @param body межі тіла, передані раніше в {@link #add(Rectangle)}
+     */
+    public void remove(Rectangle body) {
+        int id = ids.removeInt(body);
+        if (id < 0) return;
+
+        int base = id * 4;
+        for (int row = ranges[base + 2]; row <= ranges[base + 3]; row++)
+            for (int col = ranges[base]; col <= ranges[base + 1]; col++)
+                cells[row * cols + col].removeValue(id);
+
+        bodies[id] = null;
+        freeIds.add(id);
+    }
+
+    /**
+     * Оновлює клітинки тіла після зміни його координат. Якщо тіло лишилось у тих самих
+     * клітинках, індекс не змінюється; інакше тіло вилучається лише з покинутих клітинок
+     * і додається лише до нових.
+     *
+     * @param body межі тіла, що перемістилося
+     */
+    public void update(Rectangle body) {
+        int id = ids.getInt(body);
+        if (id < 0) return;
+
+        int base = id * 4;
+        motions[base + 2] = body.x - motions[base];
+        motions[base + 3] = body.y - motions[base + 1];
+        motions[base] = body.x;
+        motions[base + 1] = body.y;
+
+        int oldMinCol = ranges[base], oldMaxCol = ranges[base + 1];
+        int oldMinRow = ranges[base + 2], oldMaxRow = ranges[base + 3];
+        int minCol = toCol(body.x), maxCol = toCol(body.x + body.width);
+        int minRow = toRow(body.y), maxRow = toRow(body.y + body.height);
+        if (minCol == oldMinCol && maxCol == oldMaxCol && minRow == oldMinRow && maxRow == oldMaxRow) return;
+
+        for (int row = oldMinRow; row <= oldMaxRow; row++) {
+            for (int col = oldMinCol; col <= oldMaxCol; col++) {
+                if (col < minCol || col > maxCol || row < minRow || row > maxRow)
+                    cells[row * cols + col].removeValue(id);
+            }
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                if (col < oldMinCol || col > oldMaxCol || row < oldMinRow || row > oldMaxRow)
+                    cell(col, row).add(id);
+            }
+        }
+
+        ranges[base] = minCol;
+        ranges[base + 1] = maxCol;
+        ranges[base + 2] = minRow;
+        ranges[base + 3] = maxRow;
+    }
+
+    /**
+     * @param body межі тіла, передані раніше в {@link #add(Rectangle)}
+     * @return зсув тіла по осі X під час останнього {@link #update(Rectangle)} (0, якщо тіла немає в індексі)
+     */
+    public float getMoveX(Rectangle body) {
+        int id = ids.getInt(body);
+        return id < 0 ? 0 : motions[id * 4 + 2];
+    }
+
+    /**
+     * @param body межі тіла, передані раніше в {@link #add(Rectangle)}
+     * @return зсув тіла по осі Y під час останнього {@link #update(Rectangle)} (0, якщо тіла немає в індексі)
+     */
+    public float getMoveY(Rectangle body) {
+        int id = ids.getInt(body);
+        return id < 0 ? 0 : motions[id * 4 + 3];
+    }
+
+    /**
+     * Перевіряє, чи перетинає область хоча б одне тіло.
+     *
+     * @param area область перевірки
+     * @return true, якщо є перетин
+     */
+    public boolean overlaps(Rectangle area) {
+        return find(area) != null;
+    }
+
+    /**
+     * Шукає тіло, яке перетинає область.
+     *
+     * @param area область перевірки
+     * @return перше знайдене тіло або null
+     */
+    public Rectangle find(Rectangle area) {
+        if (ids.isEmpty()) return null;
+
+        int stamp = nextStamp();
+        int minCol = toCol(area.x), maxCol = toCol(area.x + area.width);
+        int minRow = toRow(area.y), maxRow = toRow(area.y + area.height);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                IntArray cell = cells[row * cols + col];
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.items[i];
+                    if (stamps[id] == stamp) continue;
+                    stamps[id] = stamp;
+                    if (area.overlaps(bodies[id])) return bodies[id];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Шукає найраніше зіткнення прямокутника, що рухається на ({@code dx}, {@code dy}),
+     * з тілами індексу. Перевіряються лише тіла в клітинках на шляху руху.
+     *
+     * @param box рухомий прямокутник у початковій позиції
+     * @param dx  зсув по осі X
+     * @param dy  зсув по осі Y
+     * @param hit результат, який оновлюється при ранішому дотику
+     */
+    public void sweep(Rectangle box, float dx, float dy, SweptAabb.Hit hit) {
+        if (ids.isEmpty()) return;
+
+        float slop = SweptAabb.CONTACT_SLOP;
+        int minCol = toCol(Math.min(box.x, box.x + dx) - slop);
+        int maxCol = toCol(Math.max(box.x + box.width, box.x + box.width + dx) + slop);
+        int minRow = toRow(Math.min(box.y, box.y + dy) - slop);
+        int maxRow = toRow(Math.max(box.y + box.height, box.y + box.height + dy) + slop);
+
+        int stamp = nextStamp();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                IntArray cell = cells[row * cols + col];
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.items[i];
+                    if (stamps[id] == stamp) continue;
+                    stamps[id] = stamp;
+                    SweptAabb.sweep(box, dx, dy, bodies[id], hit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Доповнює контакти прямокутника тілами індексу поруч із ним.
+     *
+     * @param box прямокутник, для якого визначаються контакти
+     * @param out контакти, що доповнюються знайденими (не скидаються)
+     */
+    public void senseContacts(Rectangle box, Contacts out) {
+        if (ids.isEmpty()) return;
+
+        float reach = Contacts.SIDE_REACH;
+        int minCol = toCol(box.x - reach), maxCol = toCol(box.x + box.width + reach);
+        int minRow = toRow(box.y - reach), maxRow = toRow(box.y + box.height + reach);
+
+        int stamp = nextStamp();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                IntArray cell = cells[row * cols + col];
+                if (cell == null) continue;
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.items[i];
+                    if (stamps[id] == stamp) continue;
+                    stamps[id] = stamp;
+                    Rectangle body = bodies[id];
+                    out.accept(box, body.x, body.y, body.width, body.height);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return кількість тіл в індексі
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    private IntArray cell(int col, int row) {
+        int index = row * cols + col;
+        IntArray cell = cells[index];
+        if (cell == null) {
+            cell = new IntArray(4);
+            cells[index] = cell;
+        }
+        return cell;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= bodies.length) return;
+        int size = Math.max(capacity, bodies.length * 2);
+        bodies = Arrays.copyOf(bodies, size);
+        ranges = Arrays.copyOf(ranges, size * 4);
+        motions = Arrays.copyOf(motions, size * 4);
+        stamps = Arrays.copyOf(stamps, size);
+    }
+
+    private int nextStamp() {
+        if (++nextStamp == 0) {
+            Arrays.fill(stamps, 0);
+            nextStamp = 1;
+        }
+        return nextStamp;
+    }
+
+    private int toCol(float x) {
+        return Math.min(Math.max((int) Math.floor(x / cellSize), 0), cols - 1);
+    }
+
+    private int toRow(float y) {
+        return Math.min(Math.max((int) Math.floor(y / cellSize), 0), rows - 1);
+    }
+}
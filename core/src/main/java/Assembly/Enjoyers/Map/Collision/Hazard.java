@@ -0,0 +1,20 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Небезпечний елемент рівня, дотик до якого вбиває гравця.
+ * Реалізації зберігаються в {@link HazardIndex}, тому новий вид небезпеки
+ * достатньо реалізувати й додати до індексу — без окремих циклів у логіці гравця.
+ */
+public interface Hazard {
+    /**
+     * @return точна форма небезпечної зони у пікселях
+     */
+    Rectangle getHazardBounds();
+
+    /**
+     * @return true, якщо небезпека зараз активна (наприклад, блок саме кришиться)
+     */
+    boolean isLethal();
+}
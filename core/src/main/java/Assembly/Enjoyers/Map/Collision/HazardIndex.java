@@ -0,0 +1,74 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Просторовий індекс небезпек рівня (шипи, crumble-блоки тощо).
+ * Форми небезпек зберігаються у {@link SpatialGrid}, тож перевірка смерті гравця
+ * переглядає лише небезпеки поруч із ним. Індекс заповнюється під час завантаження мапи
+ * і будується один раз методом {@link #build(float, float)}.
+ */
+public class HazardIndex {
+    private final List<Hazard> hazards = new ArrayList<>();
+    private final List<Rectangle> shapes = new ArrayList<>();
+    private final IntPredicate lethal = index -> hazards.get(index).isLethal();
+    private SpatialGrid grid;
+
+    /**
+     * Повертає точну форму небезпечної зони для тайла-небезпеки за його формою колізії:
+     * вставки (BoneSpike, SteelSpike) менші за клітинку, решта займає обмежувальний прямокутник своєї форми.
+     *
+     * @param shape    форма колізії тайла
+     * @param tileX    координата X клітинки у пікселях
+     * @param tileY    координата Y клітинки у пікселях
+     * @param tileSize розмір клітинки у пікселях
+     * @return прямокутник небезпечної зони
+     */
+    public static Rectangle tileShape(TileShape shape, int tileX, int tileY, int tileSize) {
+        return new Rectangle(tileX + shape.offsetX(tileSize), tileY + shape.offsetY(tileSize),
+            shape.width(tileSize), shape.height(tileSize));
+    }
+
+    /**
+     * Додає небезпеку до індексу. Має викликатися до {@link #build(float, float)}.
+     *
+     * @param hazard небезпека
+     */
+    public void add(Hazard hazard) {
+        if (grid != null) throw new IllegalStateException("Hazard index is already built");
+        hazards.add(hazard);
+        shapes.add(hazard.getHazardBounds());
+    }
+
+    /**
+     * Будує просторову сітку над усіма доданими небезпеками.
+     *
+     * @param worldWidth  ширина світу у пікселях
+     * @param worldHeight висота світу у пікселях
+     */
+    public void build(float worldWidth, float worldHeight) {
+        grid = new SpatialGrid(shapes, worldWidth, worldHeight, SpatialGrid.DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Перевіряє, чи перетинає область хоча б одну активну небезпеку.
+     * Не змінює стан індексу, тож перевірки з кількох потоків можуть виконуватися одночасно.
+     *
+     * @param area область перевірки (зазвичай хитбокс гравця)
+     * @return true, якщо дотик до активної небезпеки
+     */
+    public boolean overlapsLethal(Rectangle area) {
+        return grid.overlaps(area, lethal);
+    }
+
+    /**
+     * @return кількість небезпек в індексі
+     */
+    public int size() {
+        return hazards.size();
+    }
+}
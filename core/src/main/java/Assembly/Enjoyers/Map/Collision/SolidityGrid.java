@@ -0,0 +1,403 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Компактна бітова маска клітинок мапи: один біт на клітинку для кожної ознаки
+ * (суцільна, небезпечна, має ефект). Біти упаковані у масиви {@code long[]},
+ * тому перевірка області зводиться до кількох звернень до масиву незалежно від розміру рівня.
+ * <p>
+ * Перевірки перетину мають ту саму строгу семантику, що й {@link Rectangle#overlaps(Rectangle)}:
+ * дотик ребрами перетином не вважається.
+ * <p>
+ * Повні суцільні клітинки зберігаються бітами, а клітинки з іншою формою ({@link TileShape}:
+ * половинки, вставки, односторонні платформи, схили) — байтом форми на клітинку.
+ * Такі клітинки перевіряються за своєю формою без створення прямокутників.
+ */
+public class SolidityGrid {
+    /**
+     * Наскільки низ області може бути нижче поверхні односторонньої платформи чи схилу,
+     * щоб перевірка перетину ще вважала область такою, що стоїть на ній (датчик ніг гравця).
+     */
+    static final float SURFACE_TOLERANCE = 1.5f;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final long[] solid;
+    private final long[] hazard;
+    private final long[] effect;
+    /** Порядковий номер {@link TileShape} для клітинок, що не є повними блоками. */
+    private final byte[] shapes;
+
+    /**
+     * Створює порожню маску заданого розміру.
+     *
+     * @param width    ширина мапи у клітинках
+     * @param height   висота мапи у клітинках
+     * @param tileSize розмір клітинки у пікселях
+     */
+    public SolidityGrid(int width, int height, int tileSize) {
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+
+        int words = (width * height + 63) >>> 6;
+        this.solid = new long[words];
+        this.hazard = new long[words];
+        this.effect = new long[words];
+        this.shapes = new byte[width * height];
+    }
+
+    /**
+     * Позначає клітинку як суцільну.
+     */
+    public void setSolid(int col, int row) {
+        set(solid, col, row);
+    }
+
+    /**
+     * Задає форму колізії клітинки. Повний блок позначається бітом суцільності,
+     * решта форм — байтом форми.
+     */
+    public void setShape(int col, int row, TileShape shape) {
+        if (shape == TileShape.FULL) {
+            setSolid(col, row);
+            return;
+        }
+        if (col < 0 || row < 0 || col >= width || row >= height) return;
+        shapes[row * width + col] = (byte) shape.ordinal();
+    }
+
+    /**
+     * @return форма колізії клітинки; порожні клітинки та клітинки поза мапою мають форму EMPTY
+     */
+    public TileShape getShape(int col, int row) {
+        if (get(solid, col, row)) return TileShape.FULL;
+        if (col < 0 || row < 0 || col >= width || row >= height) return TileShape.EMPTY;
+        return TileShape.VALUES[shapes[row * width + col]];
+    }
+
+    /**
+     * Позначає клітинку як небезпечну (шипи тощо).
+     */
+    public void setHazard(int col, int row) {
+        set(hazard, col, row);
+    }
+
+    /**
+     * Позначає клітинку як таку, що має ігровий ефект (трамплін, crumble-блок, чекпоінт).
+     */
+    public void setEffect(int col, int row) {
+        set(effect, col, row);
+    }
+
+    /**
+     * @return true, якщо клітинка суцільна; клітинки поза мапою не суцільні
+     */
+    public boolean isSolid(int col, int row) {
+        return get(solid, col, row);
+    }
+
+    /**
+     * @return true, якщо клітинка небезпечна
+     */
+    public boolean isHazard(int col, int row) {
+        return get(hazard, col, row);
+    }
+
+    /**
+     * @return true, якщо клітинка має ігровий ефект
+     */
+    public boolean isEffect(int col, int row) {
+        return get(effect, col, row);
+    }
+
+    /**
+     * Перевіряє, чи перетинає область хоча б одну суцільну клітинку.
+     *
+     * @param x      координата X області у пікселях
+     * @param y      координата Y області у пікселях
+     * @param width  ширина області
+     * @param height висота області
+     * @return true, якщо є перетин
+     */
+    public boolean overlapsSolid(float x, float y, float width, float height) {
+        int minCol = Math.max(firstCell(x), 0), maxCol = Math.min(lastCell(x + width), this.width - 1);
+        int minRow = Math.max(firstCell(y), 0), maxRow = Math.min(lastCell(y + height), this.height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int index = row * this.width + col;
+                if ((solid[index >>> 6] & (1L << index)) != 0) return true;
+                if (shapes[index] != 0 && overlapsShape(TileShape.VALUES[shapes[index]], col, row, x, y, width, height))
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Перевіряє, чи перетинає прямокутник хоча б одну суцільну клітинку.
+     */
+    public boolean overlapsSolid(Rectangle area) {
+        return overlapsSolid(area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Перевіряє, чи перетинає прямокутник хоча б одну небезпечну клітинку.
+     */
+    public boolean overlapsHazard(Rectangle area) {
+        return overlaps(hazard, area.x, area.y, area.width, area.height);
+    }
+
+    /**
+     * Шукає першу суцільну клітинку, яку перетинає область, і записує її межі в {@code out}.
+     * Клітинки перебираються по стовпчиках зліва направо, а в стовпчику — знизу вгору.
+     *
+     * @param area область пошуку
+     * @param out  прямокутник, у який записуються межі знайденої клітинки
+     * @return true, якщо клітинку знайдено
+     */
+    public boolean findSolid(Rectangle area, Rectangle out) {
+        int minCol = Math.max(firstCell(area.x), 0), maxCol = Math.min(lastCell(area.x + area.width), width - 1);
+        int minRow = Math.max(firstCell(area.y), 0), maxRow = Math.min(lastCell(area.y + area.height), height - 1);
+
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                if (get(solid, col, row)) {
+                    out.set(col * tileSize, row * tileSize, tileSize, tileSize);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Шукає найраніше зіткнення прямокутника, що рухається на ({@code dx}, {@code dy}),
+     * із суцільними клітинками. Перевіряються лише клітинки в межах шляху руху.
+     * Поверхневі форми зупиняють лише рух униз, тож крізь них можна пройти збоку
+     * та вистрибнути знизу.
+     *
+     * @param box рухомий прямокутник у початковій позиції
+     * @param dx  зсув по осі X
+     * @param dy  зсув по осі Y
+     * @param hit результат, який оновлюється при ранішому дотику
+     * @return true, якщо результат оновлено
+     */
+    public boolean sweepSolid(Rectangle box, float dx, float dy, SweptAabb.Hit hit) {
+        float slop = SweptAabb.CONTACT_SLOP;
+        float minX = Math.min(box.x, box.x + dx) - slop;
+        float maxX = Math.max(box.x + box.width, box.x + box.width + dx) + slop;
+        float minY = Math.min(box.y, box.y + dy) - slop;
+        float maxY = Math.max(box.y + box.height, box.y + box.height + dy) + slop;
+
+        int minCol = Math.max(firstCell(minX), 0), maxCol = Math.min(lastCell(maxX), width - 1);
+        int minRow = Math.max(firstCell(minY), 0), maxRow = Math.min(lastCell(maxY), height - 1);
+
+        boolean updated = false;
+        for (int col = minCol; col <= maxCol; col++) {
+            for (int row = minRow; row <= maxRow; row++) {
+                int index = row * width + col;
+                if ((solid[index >>> 6] & (1L << index)) != 0)
+                    updated |= SweptAabb.sweep(box, dx, dy, col * tileSize, row * tileSize, tileSize, tileSize, hit);
+                else if (shapes[index] != 0)
+                    updated |= sweepShape(TileShape.VALUES[shapes[index]], col, row, box, dx, dy, hit);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Визначає контакти прямокутника зі статичною геометрією за один прохід по клітинках
+     * навколо нього. Поверхневі форми дають лише опору знизу.
+     *
+     * @param box прямокутник, для якого визначаються контакти
+     * @param out контакти, що доповнюються знайденими (не скидаються)
+     */
+    public void senseContacts(Rectangle box, Contacts out) {
+        float reach = Contacts.SIDE_REACH;
+        int minCol = Math.max(firstCell(box.x - reach), 0), maxCol = Math.min(lastCell(box.x + box.width + reach), width - 1);
+        int minRow = Math.max(firstCell(box.y - reach), 0), maxRow = Math.min(lastCell(box.y + box.height + reach), height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int index = row * width + col;
+                if ((solid[index >>> 6] & (1L << index)) != 0) {
+                    out.accept(box, col * tileSize, row * tileSize, tileSize, tileSize);
+                } else if (shapes[index] != 0) {
+                    TileShape shape = TileShape.VALUES[shapes[index]];
+                    if (!shape.isSurface()) {
+                        out.accept(box, col * tileSize + shape.offsetX(tileSize), row * tileSize + shape.offsetY(tileSize),
+                            shape.width(tileSize), shape.height(tileSize));
+                    } else if (!out.ground) {
+                        float reachY = Contacts.VERTICAL_REACH;
+                        out.ground = overlapsShape(shape, col, row, box.x, box.y - reachY, box.width, 2 * reachY);
+                    }
+                }
+                if (out.complete()) return;
+            }
+        }
+    }
+
+    /**
+     * Записує маску у потік (для запечених файлів рівня). Бітові масиви вирівняні на 8 байтів
+     * від початку потоку, щоб їх можна було читати напряму з відображеного у пам'ять файлу.
+     *
+     * @param out потік виведення
+     * @throws IOException у разі помилки запису
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(width);
+        out.writeInt(height);
+        out.writeInt(tileSize);
+        out.writeInt(0);
+        for (long word : solid) out.writeLong(word);
+        for (long word : hazard) out.writeLong(word);
+        for (long word : effect) out.writeLong(word);
+        out.write(shapes);
+        while (out.size() % Long.BYTES != 0) out.writeByte(0);
+    }
+
+    /**
+     * Читає маску, записану {@link #write(DataOutputStream)}, з поточної позиції буфера.
+     * Масиви копіюються з буфера одним блоком, без розбору по клітинках.
+     *
+     * @param in буфер (зазвичай відображений у пам'ять файл), позиція вирівняна на 8 байтів
+     * @return прочитана маска
+     * @throws IOException якщо розміри або форми некоректні
+     */
+    public static SolidityGrid read(ByteBuffer in) throws IOException {
+        int width = in.getInt(), height = in.getInt(), tileSize = in.getInt();
+        in.getInt();
+        if (width <= 0 || height <= 0 || tileSize <= 0) throw new IOException("Invalid grid size: " + width + "x" + height);
+
+        SolidityGrid grid = new SolidityGrid(width, height, tileSize);
+        if (in.remaining() < grid.solid.length * 3L * Long.BYTES + grid.shapes.length)
+            throw new IOException("Truncated solidity grid");
+        for (long[] words : new long[][]{grid.solid, grid.hazard, grid.effect}) {
+            in.asLongBuffer().get(words);
+            in.position(in.position() + words.length * Long.BYTES);
+        }
+        in.get(grid.shapes);
+        for (byte shape : grid.shapes) {
+            if (shape < 0 || shape >= TileShape.VALUES.length) throw new IOException("Invalid tile shape: " + shape);
+        }
+        while (in.position() % Long.BYTES != 0) in.get();
+        return grid;
+    }
+
+    /**
+     * @return ширина маски у клітинках
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return висота маски у клітинках
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return розмір клітинки у пікселях
+     */
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Перевіряє перетин області з формою клітинки. Поверхнева форма вважається перетнутою,
+     * лише якщо низ області лежить трохи нижче поверхні (область стоїть на ній).
+     */
+    private boolean overlapsShape(TileShape shape, int col, int row, float x, float y, float areaWidth, float areaHeight) {
+        float left = col * tileSize, bottom = row * tileSize;
+        if (!shape.isSurface()) {
+            float shapeX = left + shape.offsetX(tileSize), shapeY = bottom + shape.offsetY(tileSize);
+            return x < shapeX + shape.width(tileSize) && x + areaWidth > shapeX
+                && y < shapeY + shape.height(tileSize) && y + areaHeight > shapeY;
+        }
+
+        float surface = bottom + shape.surfaceHeight(x - left, x + areaWidth - left, tileSize);
+        return y < surface && y >= surface - SURFACE_TOLERANCE;
+    }
+
+    /**
+     * Обчислює зіткнення з формою клітинки. Поверхнева форма зупиняє лише рух униз і лише тоді,
+     * коли низ прямокутника на початку руху не глибше під поверхнею, ніж дозволено для форми
+     * (для схилів — пів тайла, щоб по них можна було підніматися). Межі зіткнення записуються так,
+     * що їх верх збігається з поверхнею в кінцевій позиції.
+     */
+    private boolean sweepShape(TileShape shape, int col, int row, Rectangle box, float dx, float dy, SweptAabb.Hit hit) {
+        float left = col * tileSize, bottom = row * tileSize;
+        if (!shape.isSurface()) {
+            return SweptAabb.sweep(box, dx, dy, left + shape.offsetX(tileSize), bottom + shape.offsetY(tileSize),
+                shape.width(tileSize), shape.height(tileSize), hit);
+        }
+        if (dy > 0) return false;
+
+        float endX = box.x + dx;
+        if (endX >= left + tileSize || endX + box.width <= left) return false;
+        float end = bottom + shape.surfaceHeight(endX - left, endX + box.width - left, tileSize);
+        if (box.y + dy >= end) return false;
+
+        boolean startsOver = box.x < left + tileSize && box.x + box.width > left;
+        float start = startsOver ? bottom + shape.surfaceHeight(box.x - left, box.x + box.width - left, tileSize) : end;
+        float allowance = shape.kind == TileShape.Kind.ONE_WAY ? SURFACE_TOLERANCE : tileSize / 2f;
+        if (box.y < start - allowance) return false;
+
+        float time = dy < 0 ? Math.max(0f, (box.y - end) / -dy) : 0f;
+        if (time >= hit.time) return false;
+
+        hit.time = time;
+        hit.normalX = 0;
+        hit.normalY = 1;
+        hit.bound.set(left, end - tileSize, tileSize, tileSize);
+        return true;
+    }
+
+    private boolean overlaps(long[] bits, float x, float y, float areaWidth, float areaHeight) {
+        int minCol = Math.max(firstCell(x), 0), maxCol = Math.min(lastCell(x + areaWidth), width - 1);
+        int minRow = Math.max(firstCell(y), 0), maxRow = Math.min(lastCell(y + areaHeight), height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                if (get(bits, col, row)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Перша клітинка, яку строго перетинає відрізок, що починається в {@code from}.
+     */
+    private int firstCell(float from) {
+        return (int) Math.floor(from / tileSize);
+    }
+
+    /**
+     * Остання клітинка, яку строго перетинає відрізок, що закінчується в {@code to}.
+     */
+    private int lastCell(float to) {
+        return (int) Math.ceil(to / tileSize) - 1;
+    }
+
+    private void set(long[] bits, int col, int row) {
+        if (col < 0 || row < 0 || col >= width || row >= height) return;
+        int index = row * width + col;
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private boolean get(long[] bits, int col, int row) {
+        if (col < 0 || row < 0 || col >= width || row >= height) return false;
+        int index = row * width + col;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,282 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import Assembly.Enjoyers.Map.TileTyped;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Рівномірна сітка (spatial hash) для швидкого пошуку статичних прямокутників колізій.
+ * Будується один раз для мапи: кожна клітинка зберігає індекси прямокутників, що її зачіпають,
+ * у компактному форматі (зсуви + суцільний масив індексів), тож запит переглядає лише
+ * прямокутники з околу заданої області, а не весь рівень.
+ */
+public class SpatialGrid {
+    /** Розмір клітинки сітки за замовчуванням (у пікселях). */
+    public static final float DEFAULT_CELL_SIZE = TileTyped.TILE_SIZE * 4;
+
+    private final List<Rectangle> rects;
+    private final float cellSize;
+    private final int cols;
+    private final int rows;
+    /** Початок списку індексів для кожної клітинки; довжина cols * rows + 1. */
+    private final int[] cellStart;
+    /** Індекси прямокутників, згруповані за клітинками. */
+    private final int[] cellItems;
+    /** Мітки останнього запиту, щоб не повертати один прямокутник двічі. */
+    private final int[] stamps;
+    private int queryStamp;
+
+    /**
+     * Будує сітку для переданого списку прямокутників.
+     *
+     * @param rects       прямокутники колізій (список не копіюється і не має змінюватись)
+     * @param worldWidth  ширина світу у пікселях
+     * @param worldHeight висота світу у пікселях
+     * @param cellSize    розмір клітинки у пікселях
+     */
+    public SpatialGrid(List<Rectangle> rects, float worldWidth, float worldHeight, float cellSize) {
+        this.rects = rects;
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+        this.cellStart = new int[cols * rows + 1];
+        this.stamps = new int[rects.size()];
+
+        for (Rectangle rect : rects) {
+            int minCol = toCol(rect.x), maxCol = toCol(rect.x + rect.width);
+            int minRow = toRow(rect.y), maxRow = toRow(rect.y + rect.height);
+            for (int row = minRow; row <= maxRow; row++)
+                for (int col = minCol; col <= maxCol; col++)
+                    cellStart[row * cols + col + 1]++;
+        }
+
+        for (int i = 1; i < cellStart.length; i++)
+            cellStart[i] += cellStart[i - 1];
+
+        this.cellItems = new int[cellStart[cellStart.length - 1]];
+        int[] fill = new int[cols * rows];
+        for (int i = 0; i < rects.size(); i++) {
+            Rectangle rect = rects.get(i);
+            int minCol = toCol(rect.x), maxCol = toCol(rect.x + rect.width);
+            int minRow = toRow(rect.y), maxRow = toRow(rect.y + rect.height);
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    int cell = row * cols + col;
+                    cellItems[cellStart[cell] + fill[cell]++] = i;
+                }
+            }
+        }
+    }
+
+    private SpatialGrid(List<Rectangle> rects, float cellSize, int cols, int rows, int[] cellStart, int[] cellItems) {
+        this.rects = rects;
+        this.cellSize = cellSize;
+        this.cols = cols;
+        this.rows = rows;
+        this.cellStart = cellStart;
+        this.cellItems = cellItems;
+        this.stamps = new int[rects.size()];
+    }
+
+    /**
+     * Записує індекс сітки (без самих прямокутників) у потік запеченого файлу рівня.
+     *
+     * @param out потік виведення
+     * @throws IOException у разі помилки запису
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeFloat(cellSize);
+        out.writeInt(cols);
+        out.writeInt(rows);
+        out.writeInt(cellItems.length);
+        for (int start : cellStart) out.writeInt(start);
+        for (int item : cellItems) out.writeInt(item);
+        while (out.size() % Long.BYTES != 0) out.writeByte(0);
+    }
+
+    /**
+     * Читає індекс, записаний {@link #write(DataOutputStream)}, без повторної побудови сітки.
+     * Прямокутники беруться з переданого списку за індексами, тому список може створювати
+     * їх ліниво при першому зверненні.
+     *
+     * @param rects прямокутники, для яких будувався індекс (той самий порядок)
+     * @param in    буфер з поточною позицією на початку індексу
+     * @return сітка
+     * @throws IOException якщо індекс не відповідає прямокутникам
+     */
+    public static SpatialGrid read(List<Rectangle> rects, ByteBuffer in) throws IOException {
+        float cellSize = in.getFloat();
+        int cols = in.getInt(), rows = in.getInt(), items = in.getInt();
+        if (!(cellSize > 0) || cols <= 0 || rows <= 0 || items < 0
+            || in.remaining() < ((long) cols * rows + 1 + items) * Integer.BYTES)
+            throw new IOException("Invalid spatial grid index");
+
+        int[] cellStart = new int[cols * rows + 1];
+        int[] cellItems = new int[items];
+        in.asIntBuffer().get(cellStart).get(cellItems);
+        in.position(in.position() + (cellStart.length + items) * Integer.BYTES);
+        while (in.position() % Long.BYTES != 0) in.get();
+
+        for (int i = 1; i < cellStart.length; i++)
+            if (cellStart[i] < cellStart[i - 1]) throw new IOException("Invalid spatial grid index");
+        if (cellStart[0] != 0 || cellStart[cellStart.length - 1] != items) throw new IOException("Invalid spatial grid index");
+        for (int item : cellItems)
+            if (item < 0 || item >= rects.size()) throw new IOException("Spatial grid item out of range: " + item);
+        return new SpatialGrid(rects, cellSize, cols, rows, cellStart, cellItems);
+    }
+
+    /**
+     * Додає до {@code out} усі прямокутники, що перетинають задану область.
+     * Кожен прямокутник додається не більше одного разу.
+     *
+     * @param x      координата X області
+     * @param y      координата Y області
+     * @param width  ширина області
+     * @param height висота області
+     * @param out    список, до якого додаються знайдені прямокутники
+     */
+    public void query(float x, float y, float width, float height, List<Rectangle> out) {
+        int stamp = nextStamp();
+        int minCol = toCol(x), maxCol = toCol(x + width);
+        int minRow = toRow(y), maxRow = toRow(y + height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int index = cellItems[i];
+                    if (stamps[index] == stamp) continue;
+                    stamps[index] = stamp;
+
+                    Rectangle rect = rects.get(index);
+                    if (overlaps(rect, x, y, width, height))
+                        out.add(rect);
+                }
+            }
+        }
+    }
+
+    /**
+     * Додає до {@code out} усі прямокутники, що перетинають задану область.
+     *
+     * @param area область пошуку
+     * @param out  список, до якого додаються знайдені прямокутники
+     */
+    public void query(Rectangle area, List<Rectangle> out) {
+        query(area.x, area.y, area.width, area.height, out);
+    }
+
+    /**
+     * Додає до {@code out} індекси (у вихідному списку) усіх прямокутників, що перетинають область.
+     * Кожен індекс додається не більше одного разу.
+     *
+     * @param area область пошуку
+     * @param out  масив, до якого додаються індекси
+     */
+    public void queryIndices(Rectangle area, IntArray out) {
+        int stamp = nextStamp();
+        int minCol = toCol(area.x), maxCol = toCol(area.x + area.width);
+        int minRow = toRow(area.y), maxRow = toRow(area.y + area.height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int index = cellItems[i];
+                    if (stamps[index] == stamp) continue;
+                    stamps[index] = stamp;
+
+                    if (overlaps(rects.get(index), area.x, area.y, area.width, area.height))
+                        out.add(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Перевіряє, чи перетинає задана область хоча б один прямокутник сітки.
+     *
+     * @param area область перевірки
+     * @return true, якщо знайдено перетин
+     */
+    public boolean overlaps(Rectangle area) {
+        int minCol = toCol(area.x), maxCol = toCol(area.x + area.width);
+        int minRow = toRow(area.y), maxRow = toRow(area.y + area.height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    if (overlaps(rects.get(cellItems[i]), area.x, area.y, area.width, area.height))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Перевіряє, чи перетинає задана область хоча б один прямокутник сітки, що задовольняє умову.
+     * Не змінює стан сітки, тож запити з кількох потоків можуть виконуватися одночасно.
+     *
+     * @param area   область перевірки
+     * @param accept умова для індексу прямокутника (може викликатися для одного прямокутника кілька разів)
+     * @return true, якщо знайдено перетин з прямокутником, що задовольняє умову
+     */
+    public boolean overlaps(Rectangle area, IntPredicate accept) {
+        int minCol = toCol(area.x), maxCol = toCol(area.x + area.width);
+        int minRow = toRow(area.y), maxRow = toRow(area.y + area.height);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * cols + col;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int index = cellItems[i];
+                    if (overlaps(rects.get(index), area.x, area.y, area.width, area.height) && accept.test(index))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return кількість прямокутників у сітці
+     */
+    public int size() {
+        return rects.size();
+    }
+
+    /**
+     * Перевірка перетину з тією ж строгою семантикою, що й {@link Rectangle#overlaps(Rectangle)}.
+     */
+    private static boolean overlaps(Rectangle r, float x, float y, float width, float height) {
+        return x < r.x + r.width && x + width > r.x && y < r.y + r.height && y + height > r.y;
+    }
+
+    /**
+     * Повертає нову мітку запиту; при переповненні лічильника мітки скидаються.
+     */
+    private int nextStamp() {
+        if (++queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private int toCol(float x) {
+        return Math.min(Math.max((int) Math.floor(x / cellSize), 0), cols - 1);
+    }
+
+    private int toRow(float y) {
+        return Math.min(Math.max((int) Math.floor(y / cellSize), 0), rows - 1);
+    }
+}
@@ -0,0 +1,38 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import Assembly.Enjoyers.Map.TileKind;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Нерухома небезпека, створена з тайла мапи (шипи). Завжди активна.
+ */
+public class StaticHazard implements Hazard {
+    private final Rectangle bounds;
+    private final TileKind tileType;
+
+    /**
+     * @param bounds   точна форма небезпечної зони
+     * @param tileType вид тайла, з якого створено небезпеку
+     */
+    public StaticHazard(Rectangle bounds, TileKind tileType) {
+        this.bounds = bounds;
+        this.tileType = tileType;
+    }
+
+    @Override
+    public Rectangle getHazardBounds() {
+        return bounds;
+    }
+
+    @Override
+    public boolean isLethal() {
+        return true;
+    }
+
+    /**
+     * @return вид тайла, з якого створено небезпеку
+     */
+    public TileKind getTileType() {
+        return tileType;
+    }
+}
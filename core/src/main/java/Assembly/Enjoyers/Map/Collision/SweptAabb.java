@@ -0,0 +1,122 @@
+package Assembly.Enjoyers.Map.Collision;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Неперервна перевірка зіткнень рухомого прямокутника (swept AABB).
+ * Замість перевірки лише кінцевої позиції обчислює момент першого дотику на відрізку руху
+ * та нормаль поверхні, тож швидкий об'єкт не «проскакує» крізь тонку стіну і зупиняється
+ * саме в точці контакту.
+ */
+public class SweptAabb {
+    /**
+     * Допуск у пікселях: перекриття, менше за цей відступ, вважається дотиком.
+     * Компенсує похибку float після притискання до поверхні.
+     */
+    public static final float CONTACT_SLOP = 0.01f;
+
+    /**
+     * Результат зіткнення: час дотику та нормаль поверхні.
+     */
+    public static class Hit {
+        /** Частка шляху до дотику (0..1); 1 — зіткнення немає. */
+        public float time = 1f;
+        /** Нормаль поверхні по осі X (-1, 0 або 1). */
+        public float normalX;
+        /** Нормаль поверхні по осі Y (-1, 0 або 1). */
+        public float normalY;
+        /** Межі перешкоди, з якою відбулось зіткнення. */
+        public final Rectangle bound = new Rectangle();
+
+        /**
+         * Скидає результат до стану «зіткнення немає».
+         */
+        public void reset() {
+            time = 1f;
+            normalX = 0;
+            normalY = 0;
+        }
+
+        /**
+         * @return true, якщо зіткнення знайдено
+         */
+        public boolean isHit() {
+            return time < 1f;
+        }
+    }
+
+    /**
+     * Обчислює зіткнення прямокутника {@code box}, що рухається на ({@code dx}, {@code dy}),
+     * з нерухомою перешкодою. Якщо дотик стається раніше, ніж уже збережений у {@code hit},
+     * результат оновлюється.
+     *
+     * @param box рухомий прямокутник у початковій позиції
+     * @param dx  зсув по осі X
+     * @param dy  зсув по осі Y
+     * @param tx  координата X перешкоди
+     * @param ty  координата Y перешкоди
+     * @param tw  ширина перешкоди
+     * @param th  висота перешкоди
+     * @param hit результат, який оновлюється при ранішому дотику
+     * @return true, якщо результат оновлено
+     */
+    public static boolean sweep(Rectangle box, float dx, float dy,
+                                float tx, float ty, float tw, float th, Hit hit) {
+        float entryX, exitX, entryY, exitY;
+
+        if (dx > 0) {
+            entryX = contact(tx - (box.x + box.width)) / dx;
+            exitX = (tx + tw - box.x) / dx;
+        } else if (dx < 0) {
+            entryX = contact(box.x - (tx + tw)) / -dx;
+            exitX = (box.x + box.width - tx) / -dx;
+        } else {
+            if (box.x >= tx + tw || box.x + box.width <= tx) return false;
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        }
+
+        if (dy > 0) {
+            entryY = contact(ty - (box.y + box.height)) / dy;
+            exitY = (ty + th - box.y) / dy;
+        } else if (dy < 0) {
+            entryY = contact(box.y - (ty + th)) / -dy;
+            exitY = (box.y + box.height - ty) / -dy;
+        } else {
+            if (box.y >= ty + th || box.y + box.height <= ty) return false;
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        }
+
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry < 0 || entry >= exit || entry >= hit.time) return false;
+
+        hit.time = entry;
+        if (entryX > entryY) {
+            hit.normalX = dx > 0 ? -1 : 1;
+            hit.normalY = 0;
+        } else {
+            hit.normalX = 0;
+            hit.normalY = dy > 0 ? -1 : 1;
+        }
+        hit.bound.set(tx, ty, tw, th);
+        return true;
+    }
+
+    /**
+     * Обчислює зіткнення з прямокутною перешкодою.
+     *
+     * @see #sweep(Rectangle, float, float, float, float, float, float, Hit)
+     */
+    public static boolean sweep(Rectangle box, float dx, float dy, Rectangle target, Hit hit) {
+        return sweep(box, dx, dy, target.x, target.y, target.width, target.height, hit);
+    }
+
+    /**
+     * Відстань до поверхні з урахуванням допуску: мале перекриття трактується як дотик.
+     */
+    private static float contact(float distance) {
+        return distance < 0 && distance > -CONTACT_SLOP ? 0 : distance;
+    }
+}
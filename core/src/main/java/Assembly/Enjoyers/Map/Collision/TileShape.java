@@ -0,0 +1,100 @@
+package Assembly.Enjoyers.Map.Collision;
+
+/**
+ * Форма колізії тайла. Прямокутні форми задаються межами у восьмих частках тайла
+ * (повний блок, половинки, вставки шипів), поверхневі — лише верхньою поверхнею,
+ * на яку можна стати згори: одностороння платформа та схили під 45°.
+ * <p>
+ * {@link SolidityGrid} зберігає для кожної клітинки порядковий номер форми (один байт)
+ * і обчислює колізії прямо з нього, не створюючи прямокутників.
+ */
+public enum TileShape {
+    EMPTY(Kind.NONE, 0, 0, 0, 0),
+    FULL(Kind.BOX, 0, 0, 8, 8),
+    HALF_BOTTOM(Kind.BOX, 0, 0, 8, 4),
+    HALF_TOP(Kind.BOX, 0, 4, 8, 8),
+    /** Вставка для дрібних шипів (BoneSpike). */
+    INSET_SMALL(Kind.BOX, 1, 1, 3, 3),
+    /** Вставка для середніх шипів (SteelSpike). */
+    INSET_MEDIUM(Kind.BOX, 1, 1, 5, 5),
+    /** Платформа, яка тримає лише згори: крізь неї можна пройти збоку та вистрибнути знизу. */
+    ONE_WAY(Kind.ONE_WAY, 0, 0, 8, 8),
+    /** Схил, що піднімається зліва направо. */
+    SLOPE_UP(Kind.SLOPE_UP, 0, 0, 8, 8),
+    /** Схил, що опускається зліва направо. */
+    SLOPE_DOWN(Kind.SLOPE_DOWN, 0, 0, 8, 8);
+
+    /** Усі форми за порядковим номером (для таблиці клітинок). */
+    static final TileShape[] VALUES = values();
+
+    /**
+     * Спосіб обчислення колізії форми.
+     */
+    enum Kind {
+        NONE,
+        BOX,
+        ONE_WAY,
+        SLOPE_UP,
+        SLOPE_DOWN,
+    }
+
+    final Kind kind;
+    private final int minX, minY, maxX, maxY;
+
+    TileShape(Kind kind, int minX, int minY, int maxX, int maxY) {
+        this.kind = kind;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * @return true, якщо форма тримає лише згори (одностороння платформа чи схил)
+     */
+    public boolean isSurface() {
+        return kind == Kind.ONE_WAY || kind == Kind.SLOPE_UP || kind == Kind.SLOPE_DOWN;
+    }
+
+    /**
+     * @return зсув лівої межі форми від лівого краю тайла у пікселях
+     */
+    public float offsetX(int tileSize) {
+        return minX * tileSize / 8f;
+    }
+
+    /**
+     * @return зсув нижньої межі форми від нижнього краю тайла у пікселях
+     */
+    public float offsetY(int tileSize) {
+        return minY * tileSize / 8f;
+    }
+
+    /**
+     * @return ширина обмежувального прямокутника форми у пікселях
+     */
+    public float width(int tileSize) {
+        return (maxX - minX) * tileSize / 8f;
+    }
+
+    /**
+     * @return висота обмежувального прямокутника форми у пікселях
+     */
+    public float height(int tileSize) {
+        return (maxY - minY) * tileSize / 8f;
+    }
+
+    /**
+     * Найвища точка поверхні над відрізком [{@code from}, {@code to}], заданим відносно лівого
+     * краю тайла і обрізаним до його ширини.
+     *
+     * @return висота поверхні відносно нижнього краю тайла у пікселях
+     */
+    float surfaceHeight(float from, float to, int tileSize) {
+        return switch (kind) {
+            case SLOPE_UP -> Math.min(Math.max(to, 0), tileSize);
+            case SLOPE_DOWN -> tileSize - Math.min(Math.max(from, 0), tileSize);
+            default -> maxY * tileSize / 8f;
+        };
+    }
+}
@@ -2,8 +2,15 @@ package Assembly.Enjoyers.Map;
 
 import Assembly.Enjoyers.Map.AnimatedBlocks.CrumblingBlock;
 import Assembly.Enjoyers.Map.AnimatedBlocks.JumpPad;
+import Assembly.Enjoyers.Map.AnimatedBlocks.MovingPlatform;
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
+import Assembly.Enjoyers.Map.Trigger.TriggerIndex;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import java.util.List;
 
 /**
@@ -36,7 +43,7 @@ public abstract class GameMap {
      * @param y     координата Y у пікселях
      * @return тип плитки або null, якщо не знайдено
      */
-    public TileTyped getTileTypeByLocation(int layer, float x, float y) {
+    public TileKind getTileTypeByLocation(int layer, float x, float y) {
         return this.getTileTypeByCoordinate(layer, (int) (x / TileTyped.TILE_SIZE), (int) (y / TileTyped.TILE_SIZE));
     }
 
@@ -47,6 +54,38 @@ public abstract class GameMap {
      */
     public abstract List<Rectangle> getCollisionRects();
 
+    /**
+     * Повертає просторовий індекс статичних прямокутників колізій.
+     * Дозволяє отримати лише прямокутники поруч із заданою областю замість перебору всього рівня.
+     *
+     * @return сітка прямокутників колізій
+     */
+    public abstract SpatialGrid getCollisionGrid();
+
+    /**
+     * Повертає бітову маску клітинок мапи (суцільні, небезпечні, з ефектом).
+     * Використовується фізикою гравця для перевірок за координатами тайлів.
+     *
+     * @return маска клітинок мапи
+     */
+    public abstract SolidityGrid getSolidityGrid();
+
+    /**
+     * Повертає світ колізій рівня: статична геометрія плюс динамічні тіла (crumble-блоки),
+     * які самі реєструються у світі та виходять із нього при зміні стану.
+     *
+     * @return світ колізій
+     */
+    public abstract CollisionWorld getCollisionWorld();
+
+    /**
+     * Повертає просторовий індекс небезпек (шипи, crumble-блоки), у якому зберігаються
+     * точні форми небезпечних зон.
+     *
+     * @return індекс небезпек
+     */
+    public abstract HazardIndex getHazardIndex();
+
     /**
      * Повертає список прямокутників шипів (SPIKE), які можуть завдати шкоди гравцю.
      *
@@ -68,6 +107,56 @@ public abstract class GameMap {
      */
     public abstract List<JumpPad> getJumpPads();
 
+    /**
+     * Повертає список рухомих платформ, що переносять гравця.
+     *
+     * @return список об'єктів MovingPlatform на мапі
+     */
+    public abstract List<MovingPlatform> getMovingPlatforms();
+
+    /**
+     * Повертає індекс тригерних зон рівня (трампліни, чекпоінти, фініш).
+     *
+     * @return індекс тригерних зон
+     */
+    public abstract TriggerIndex getTriggerIndex();
+
+    /**
+     * Повертає регіони симуляції: об'єкти мапи далеко від гравця сплять і не оновлюються.
+     *
+     * @return регіони симуляції рівня
+     */
+    public abstract SimulationRegions getSimulationRegions();
+
+    /**
+     * Повертає ігровий світ рівня, який оновлюється під час гри.
+     *
+     * @return ігровий світ рівня
+     */
+    public abstract LevelWorld getWorld();
+
+    /**
+     * Створює новий ігровий світ рівня у початковому стані, незалежний від поточного
+     * (наприклад, для перевірки запису проходження повторною симуляцією).
+     *
+     * @return новий ігровий світ рівня
+     */
+    public abstract LevelWorld createWorld();
+
+    /**
+     * Повертає точку появи гравця, задану на мапі (об'єкт "spawn" шару "Level").
+     *
+     * @return точка появи або null, якщо мапа її не задає
+     */
+    public abstract Vector2 getSpawnPoint();
+
+    /**
+     * Повертає зону фінішу, задану на мапі (об'єкт "exit" шару "Level").
+     *
+     * @return зона фінішу або null, якщо мапа її не задає
+     */
+    public abstract Rectangle getExitBounds();
+
     /**
      * Повертає тип плитки за координатами у сітці мапи.
      *
@@ -76,7 +165,7 @@ public abstract class GameMap {
      * @param row   рядок (Y)
      * @return тип плитки або null, якщо не знайдено
      */
-    public abstract TileTyped getTileTypeByCoordinate(int layer, int col, int row);
+    public abstract TileKind getTileTypeByCoordinate(int layer, int col, int row);
 
     /**
      * @return ширина мапи у кількості тайлів
@@ -0,0 +1,278 @@
+package Assembly.Enjoyers.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.SerializationException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Каталог рівнів гри: ідентифікатор, назва, шлях до мапи, точка появи, фініш, розміри,
+ * кількість частин мапи ({@link TileChunks}) та посилання на мініатюру.
+ * <p>
+ * Каталог ({@value #PATH}) генерується під час збірки з TMX-файлів ({@code gradlew bakeLevels})
+ * і завантажується один раз при старті гри, тож меню отримують дані рівнів, не відкриваючи мапи,
+ * а новий рівень не потребує змін у коді. Якщо файлу немає, використовуються вбудовані рівні
+ * ({@link #DEFAULTS}); їх точки появи та фініші також доповнюють мапи, що не задають їх самі.
+ */
+public class LevelCatalog {
+    /** Шлях до каталогу у ресурсах гри. */
+    public static final String PATH = "maps/catalog.json";
+    /** Версія формату каталогу. */
+    public static final int VERSION = 1;
+
+    /**
+     * Вбудовані рівні гри (розміри та кількість частин невідомі без мапи й дорівнюють 0).
+     * Їх точки появи та фініші — запасні дані для мап без шару "Level"; поточні мапи рівнів його не мають.
+     */
+    public static final List<Entry> DEFAULTS = List.of(
+        new Entry("levelId-1", "Рiвень 1", "maps/level1/map.tmx", 950, 400,
+            new Rectangle(23420, 800, 60, 130), 0, 0, 0, null),
+        new Entry("levelId-2", "Рiвень 2", "maps/level2/map.tmx", 950, 400,
+            new Rectangle(27005, 1025, 60, 130), 0, 0, 0, null),
+        new Entry("levelId-3", "Рiвень 3", "maps/level3/map.tmx", 950, 4850,
+            new Rectangle(14900, 4640, 60, 130), 0, 0, 0, null));
+
+    private final List<Entry> levels;
+
+    /**
+     * @param levels рівні у порядку відображення
+     */
+    public LevelCatalog(List<Entry> levels) {
+        this.levels = Collections.unmodifiableList(new ArrayList<>(levels));
+    }
+
+    /**
+     * Завантажує каталог з ресурсів гри. Якщо файлу немає або він некоректний,
+     * повертає вбудовані рівні.
+     *
+     * @return каталог рівнів
+     */
+    public static LevelCatalog load() {
+        FileHandle file = Gdx.files.internal(PATH);
+        if (file.exists()) {
+            try {
+                LevelCatalog catalog = parse(file.readString("UTF-8"));
+                if (catalog != null) {
+                    Gdx.app.log("LevelCatalog", "Loaded " + catalog.size() + " level(s) from " + PATH);
+                    return catalog;
+                }
+                Gdx.app.log("LevelCatalog", PATH + " has an old format version");
+            } catch (RuntimeException e) {
+                Gdx.app.error("LevelCatalog", "Failed to read " + PATH, e);
+            }
+        }
+        Gdx.app.log("LevelCatalog", "Using built-in levels");
+        return new LevelCatalog(DEFAULTS);
+    }
+
+    /**
+     * Розбирає каталог з JSON.
+     *
+     * @param json вміст файлу каталогу
+     * @return каталог або null, якщо версія формату інша
+     * @throws SerializationException якщо JSON некоректний
+     * @throws IllegalArgumentException якщо запис рівня неповний
+     */
+    public static LevelCatalog parse(String json) {
+        JsonValue root = new JsonReader().parse(json);
+        if (root.getInt("version", 0) != VERSION) return null;
+
+        List<Entry> levels = new ArrayList<>();
+        for (JsonValue level = root.getChild("levels"); level != null; level = level.next) {
+            float[] spawn = level.require("spawn").asFloatArray();
+            float[] exit = level.require("exit").asFloatArray();
+            int[] bounds = level.require("bounds").asIntArray();
+            if (spawn.length != 2 || exit.length != 4 || bounds.length != 2)
+                throw new IllegalArgumentException("Invalid level entry " + level.getString("id", "?"));
+            levels.add(new Entry(level.require("id").asString(), level.require("name").asString(),
+                level.require("map").asString(), spawn[0], spawn[1], new Rectangle(exit[0], exit[1], exit[2], exit[3]),
+                bounds[0], bounds[1], level.getInt("chunks", 0), level.getString("thumbnail", null)));
+        }
+        return new LevelCatalog(levels);
+    }
+
+    /**
+     * Записує каталог у JSON.
+     *
+     * @param out потік запису (не закривається)
+     * @throws IOException якщо запис не вдався
+     */
+    public void write(Writer out) throws IOException {
+        JsonWriter json = new JsonWriter(out);
+        json.setOutputType(JsonWriter.OutputType.json);
+        json.object().set("version", VERSION).array("levels");
+        for (Entry level : levels) {
+            json.object()
+                .set("id", level.id)
+                .set("name", level.name)
+                .set("map", level.mapPath);
+            json.array("spawn").value(level.spawnX).value(level.spawnY).pop();
+            json.array("exit").value(level.exit.x).value(level.exit.y).value(level.exit.width).value(level.exit.height).pop();
+            json.array("bounds").value(level.width).value(level.height).pop();
+            json.set("chunks", level.chunkCount);
+            if (level.thumbnail != null) json.set("thumbnail", level.thumbnail);
+            json.pop();
+        }
+        json.pop().pop();
+        json.flush();
+    }
+
+    /**
+     * Шукає вбудований рівень за ідентифікатором.
+     *
+     * @param id ідентифікатор рівня
+     * @return рівень або null
+     */
+    public static Entry findDefault(String id) {
+        for (Entry level : DEFAULTS) {
+            if (level.id.equals(id)) return level;
+        }
+        return null;
+    }
+
+    /**
+     * Повертає рівень за ідентифікатором.
+     *
+     * @param id ідентифікатор рівня
+     * @return рівень або null, якщо його немає у каталозі
+     */
+    public Entry get(String id) {
+        for (Entry level : levels) {
+            if (level.id.equals(id)) return level;
+        }
+        return null;
+    }
+
+    /**
+     * @return рівні у порядку відображення (незмінний список)
+     */
+    public List<Entry> getLevels() {
+        return levels;
+    }
+
+    /**
+     * @return кількість рівнів
+     */
+    public int size() {
+        return levels.size();
+    }
+
+    /**
+     * Опис одного рівня у каталозі.
+     */
+    public static class Entry {
+        private final String id;
+        private final String name;
+        private final String mapPath;
+        private final float spawnX, spawnY;
+        private final Rectangle exit;
+        private final int width, height;
+        private final int chunkCount;
+        private final String thumbnail;
+
+        /**
+         * @param id         ідентифікатор рівня (ключ рекордів і записів проходжень)
+         * @param name       назва для меню
+         * @param mapPath    шлях до TMX-файлу у ресурсах
+         * @param spawnX     координата X точки появи у пікселях
+         * @param spawnY     координата Y точки появи у пікселях
+         * @param exit       зона фінішу
+         * @param width      ширина рівня у пікселях
+         * @param height     висота рівня у пікселях
+         * @param chunkCount кількість частин мапи по {@link TileChunks#CHUNK_TILES} тайлів
+         * @param thumbnail  шлях до мініатюри у ресурсах або null
+         */
+        public Entry(String id, String name, String mapPath, float spawnX, float spawnY, Rectangle exit,
+                     int width, int height, int chunkCount, String thumbnail) {
+            this.id = id;
+            this.name = name;
+            this.mapPath = mapPath;
+            this.spawnX = spawnX;
+            this.spawnY = spawnY;
+            this.exit = exit;
+            this.width = width;
+            this.height = height;
+            this.chunkCount = chunkCount;
+            this.thumbnail = thumbnail;
+        }
+
+        /**
+         * @return ідентифікатор рівня
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return назва рівня для меню
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return шлях до TMX-файлу рівня у ресурсах
+         */
+        public String getMapPath() {
+            return mapPath;
+        }
+
+        /**
+         * @return координата X точки появи у пікселях
+         */
+        public float getSpawnX() {
+            return spawnX;
+        }
+
+        /**
+         * @return координата Y точки появи у пікселях
+         */
+        public float getSpawnY() {
+            return spawnY;
+        }
+
+        /**
+         * @return зона фінішу (спільний екземпляр, не змінювати)
+         */
+        public Rectangle getExit() {
+            return exit;
+        }
+
+        /**
+         * @return ширина рівня у пікселях (0, якщо невідома)
+         */
+        public int getWidth() {
+            return width;
+        }
+
+        /**
+         * @return висота рівня у пікселях (0, якщо невідома)
+         */
+        public int getHeight() {
+            return height;
+        }
+
+        /**
+         * @return кількість частин мапи (0, якщо невідома)
+         */
+        public int getChunkCount() {
+            return chunkCount;
+        }
+
+        /**
+         * @return шлях до мініатюри у ресурсах або null, якщо її немає
+         */
+        public String getThumbnail() {
+            return thumbnail;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package Assembly.Enjoyers.Map;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.utils.XmlReader.Element;
+
+/**
+ * Завантажувач TMX для рівнів: шари тайлів верхнього рівня створюються порожніми, з розмірами
+ * та властивостями шару, але без клітинок. Тайли рівня гра бере з ігрових даних ({@link TileGrid}),
+ * а клітинки для рендерингу створює {@link TileChunks} лише для частин навколо камери, тож
+ * клітинки всього рівня не декодуються і не тримаються у пам'яті навіть під час завантаження.
+ * <p>
+ * Тайлсети, об'єктні шари, шари зображень і шари тайлів усередині груп завантажуються як зазвичай.
+ */
+public class LevelMapLoader extends TmxMapLoader {
+    public LevelMapLoader(FileHandleResolver resolver) {
+        super(resolver);
+    }
+
+    @Override
+    protected void loadTileLayer(TiledMap map, MapLayers parentLayers, Element element) {
+        if (parentLayers != map.getLayers() || !"layer".equals(element.getName())) {
+            super.loadTileLayer(map, parentLayers, element);
+            return;
+        }
+
+        TiledMapTileLayer layer = new TiledMapTileLayer(element.getIntAttribute("width", 0),
+            element.getIntAttribute("height", 0),
+            map.getProperties().get("tilewidth", Integer.class),
+            map.getProperties().get("tileheight", Integer.class));
+        loadBasicLayerInfo(layer, element);
+        Element properties = element.getChildByName("properties");
+        if (properties != null) loadProperties(layer.getProperties(), properties);
+        parentLayers.add(layer);
+    }
+}
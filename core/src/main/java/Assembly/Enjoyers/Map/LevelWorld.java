@@ -0,0 +1,164 @@
+package Assembly.Enjoyers.Map;
+
+import Assembly.Enjoyers.Map.AnimatedBlocks.CrumblingBlock;
+import Assembly.Enjoyers.Map.AnimatedBlocks.JumpPad;
+import Assembly.Enjoyers.Map.AnimatedBlocks.MovingPlatform;
+import Assembly.Enjoyers.Map.Baked.LevelData;
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.StaticHazard;
+import Assembly.Enjoyers.Map.Trigger.CheckPoint;
+import Assembly.Enjoyers.Map.Trigger.TriggerIndex;
+import Assembly.Enjoyers.Map.Trigger.TriggerType;
+import Assembly.Enjoyers.Map.Trigger.TriggerZone;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ігровий світ рівня без графіки: світ колізій, небезпеки, тригерні зони, crumble-блоки,
+ * трампліни, рухомі платформи та регіони симуляції, створені з ігрових даних ({@link LevelData}).
+ * Не потребує Gdx-контексту, тож той самий світ використовує і гра ({@link TiledGameMap}),
+ * і перевірка запису проходження повторною симуляцією без вікна.
+ */
+public class LevelWorld {
+    private final CollisionWorld collisionWorld;
+    private final HazardIndex hazardIndex = new HazardIndex();
+    private final TriggerIndex triggerIndex = new TriggerIndex();
+    private final List<Rectangle> spikeRects = new ArrayList<>();
+    private final List<CrumblingBlock> crumblingBlocks = new ArrayList<>();
+    private final List<JumpPad> jumpPads = new ArrayList<>();
+    private final List<MovingPlatform> movingPlatforms = new ArrayList<>();
+    private final SimulationRegions simulationRegions;
+
+    /**
+     * Створює об'єкти рівня з ігрових даних: шипи, crumble-блоки, трампліни, чекпоінти та рухомі платформи.
+     * Кожен виклик дає незалежний світ у початковому стані.
+     *
+     * @param data  ігрові дані рівня
+     * @param tiles поведінка тайлів мапи (вид тайла для шипів)
+     */
+    public LevelWorld(LevelData data, TileRegistry tiles) {
+        int tileSize = data.getTileSize();
+        float worldWidth = data.getWidth() * TileTyped.TILE_SIZE, worldHeight = data.getHeight() * TileTyped.TILE_SIZE;
+        collisionWorld = new CollisionWorld(data.getGrid());
+
+        List<Rectangle> hazards = data.getHazardRects();
+        for (int i = 0; i < hazards.size(); i++) {
+            Rectangle shape = hazards.get(i);
+            spikeRects.add(shape);
+            hazardIndex.add(new StaticHazard(shape, tiles.get(data.getHazardTiles().get(i))));
+        }
+
+        IntArray cells = data.getCrumblingCells();
+        for (int i = 0; i < cells.size; i += 2)
+            crumblingBlocks.add(new CrumblingBlock(cells.get(i) * tileSize, cells.get(i + 1) * tileSize, tileSize, tileSize));
+
+        cells = data.getJumpPadCells();
+        for (int i = 0; i < cells.size; i += 2) {
+            JumpPad jumpPad = new JumpPad(cells.get(i) * tileSize, cells.get(i + 1) * tileSize, tileSize, tileSize);
+            jumpPads.add(jumpPad);
+            triggerIndex.add(jumpPad);
+        }
+
+        cells = data.getCheckPointCells();
+        for (int i = 0; i < cells.size; i += 2)
+            triggerIndex.add(new CheckPoint(cells.get(i) * tileSize, cells.get(i + 1) * tileSize, tileSize, tileSize));
+
+        for (CrumblingBlock block : crumblingBlocks) {
+            block.attach(collisionWorld);
+            hazardIndex.add(block);
+        }
+        hazardIndex.build(worldWidth, worldHeight);
+
+        for (LevelData.PlatformPath path : data.getPlatforms()) {
+            MovingPlatform platform = new MovingPlatform(path.getPath().clone(), path.getWidth(), path.getHeight(),
+                path.getSpeed(), path.isLoop());
+            platform.attach(collisionWorld);
+            movingPlatforms.add(platform);
+        }
+
+        simulationRegions = new SimulationRegions(crumblingBlocks, jumpPads, worldWidth, worldHeight);
+    }
+
+    /**
+     * Додає зону фінішу рівня.
+     *
+     * @param exit межі зони фінішу
+     */
+    public void setExit(Rectangle exit) {
+        triggerIndex.add(new TriggerZone(exit, TriggerType.LEVEL_EXIT));
+    }
+
+    /**
+     * Оновлює рухомі платформи та об'єкти мапи в активних регіонах симуляції.
+     * Платформи рухаються завжди, незалежно від регіонів, щоб їх положення не залежало
+     * від того, де гравець.
+     *
+     * @param step тривалість кроку симуляції
+     */
+    public void update(float step) {
+        for (int i = 0; i < movingPlatforms.size(); i++) {
+            movingPlatforms.get(i).update(step);
+        }
+        simulationRegions.update(step);
+    }
+
+    /**
+     * @return світ колізій: маска клітинок плюс crumble-блоки та платформи як динамічні тіла
+     */
+    public CollisionWorld getCollisionWorld() {
+        return collisionWorld;
+    }
+
+    /**
+     * @return просторовий індекс шипів і crumble-блоків для перевірки смерті гравця
+     */
+    public HazardIndex getHazardIndex() {
+        return hazardIndex;
+    }
+
+    /**
+     * @return індекс тригерних зон: трампліни, чекпоінти та фініш
+     */
+    public TriggerIndex getTriggerIndex() {
+        return triggerIndex;
+    }
+
+    /**
+     * @return прямокутники шипів
+     */
+    public List<Rectangle> getSpikes() {
+        return spikeRects;
+    }
+
+    /**
+     * @return crumble-блоки рівня
+     */
+    public List<CrumblingBlock> getCrumblingBlocks() {
+        return crumblingBlocks;
+    }
+
+    /**
+     * @return трампліни рівня
+     */
+    public List<JumpPad> getJumpPads() {
+        return jumpPads;
+    }
+
+    /**
+     * @return рухомі платформи рівня
+     */
+    public List<MovingPlatform> getMovingPlatforms() {
+        return movingPlatforms;
+    }
+
+    /**
+     * @return регіони симуляції рівня
+     */
+    public SimulationRegions getSimulationRegions() {
+        return simulationRegions;
+    }
+}
@@ -0,0 +1,162 @@
+package Assembly.Enjoyers.Map;
+
+import Assembly.Enjoyers.Map.AnimatedBlocks.CrumblingBlock;
+import Assembly.Enjoyers.Map.AnimatedBlocks.JumpPad;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ділить рівень на квадратні регіони та оновлює лише об'єкти мапи (crumble-блоки, трампліни)
+ * поблизу гравця. Далекі регіони «сплять» і не коштують нічого за кадр:
+ * <ul>
+ *     <li>crumble-блоки при пробудженні наздоганяють пропущений час, тож їхня фаза
+ *     збігається з фазою блоків, які не засинали;</li>
+ *     <li>трампліни при засинанні детерміновано скидаються у стан спокою.</li>
+ * </ul>
+ */
+public class SimulationRegions {
+    /** Розмір регіону у пікселях. */
+    public static final float REGION_SIZE = TileTyped.TILE_SIZE * 32;
+
+    private final int cols;
+    private final int rows;
+    private final Region[] regions;
+    private final List<CrumblingBlock> awakeBlocks = new ArrayList<>();
+    private final List<JumpPad> awakePads = new ArrayList<>();
+
+    private int minCol = -1, maxCol = -1, minRow = -1, maxRow = -1;
+    private long tick;
+    private float step;
+
+    /**
+     * Регіон мапи зі своїми об'єктами та часом засинання.
+     */
+    private static class Region {
+        final List<CrumblingBlock> blocks = new ArrayList<>();
+        final List<JumpPad> pads = new ArrayList<>();
+        boolean awake;
+        long sleptAtTick;
+    }
+
+    /**
+     * Розкладає об'єкти мапи по регіонах. Спочатку всі регіони сплять.
+     *
+     * @param blocks      crumble-блоки рівня
+     * @param pads        трампліни рівня
+     * @param worldWidth  ширина світу у пікселях
+     * @param worldHeight висота світу у пікселях
+     */
+    public SimulationRegions(List<CrumblingBlock> blocks, List<JumpPad> pads, float worldWidth, float worldHeight) {
+        this.cols = Math.max(1, (int) Math.ceil(worldWidth / REGION_SIZE));
+        this.rows = Math.max(1, (int) Math.ceil(worldHeight / REGION_SIZE));
+        this.regions = new Region[cols * rows];
+        for (int i = 0; i < regions.length; i++)
+            regions[i] = new Region();
+
+        for (CrumblingBlock block : blocks) {
+            Rectangle bounds = block.getBounds();
+            regionAt(bounds.x, bounds.y).blocks.add(block);
+        }
+        for (JumpPad pad : pads) {
+            Rectangle bounds = pad.getDrawBounds();
+            regionAt(bounds.x, bounds.y).pads.add(pad);
+        }
+    }
+
+    /**
+     * Задає область навколо гравця, яка має бути активною. Регіони, що потрапили в область
+     * (з запасом в один регіон), прокидаються, решта засинає. Якщо набір регіонів не змінився,
+     * метод нічого не робить.
+     *
+     * @param centerX    центр області по X
+     * @param centerY    центр області по Y
+     * @param halfWidth  половина ширини області (зазвичай половина екрана)
+     * @param halfHeight половина висоти області
+     */
+    public void setFocus(float centerX, float centerY, float halfWidth, float halfHeight) {
+        int newMinCol = toCol(centerX - halfWidth - REGION_SIZE), newMaxCol = toCol(centerX + halfWidth + REGION_SIZE);
+        int newMinRow = toRow(centerY - halfHeight - REGION_SIZE), newMaxRow = toRow(centerY + halfHeight + REGION_SIZE);
+        if (newMinCol == minCol && newMaxCol == maxCol && newMinRow == minRow && newMaxRow == maxRow) return;
+
+        minCol = newMinCol;
+        maxCol = newMaxCol;
+        minRow = newMinRow;
+        maxRow = newMaxRow;
+
+        awakeBlocks.clear();
+        awakePads.clear();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                Region region = regions[row * cols + col];
+                boolean inFocus = col >= minCol && col <= maxCol && row >= minRow && row <= maxRow;
+
+                if (inFocus && !region.awake) wake(region);
+                else if (!inFocus && region.awake) sleep(region);
+
+                if (inFocus) {
+                    awakeBlocks.addAll(region.blocks);
+                    awakePads.addAll(region.pads);
+                }
+            }
+        }
+    }
+
+    /**
+     * Оновлює об'єкти активних регіонів на один крок симуляції.
+     *
+     * @param step тривалість кроку в секундах (має бути сталою між викликами)
+     */
+    public void update(float step) {
+        this.step = step;
+        tick++;
+
+        for (int i = 0; i < awakeBlocks.size(); i++)
+            awakeBlocks.get(i).update(step);
+        for (int i = 0; i < awakePads.size(); i++)
+            awakePads.get(i).update(step);
+    }
+
+    /**
+     * @return crumble-блоки активних регіонів
+     */
+    public List<CrumblingBlock> getAwakeBlocks() {
+        return awakeBlocks;
+    }
+
+    /**
+     * @return трампліни активних регіонів
+     */
+    public List<JumpPad> getAwakePads() {
+        return awakePads;
+    }
+
+    private void wake(Region region) {
+        region.awake = true;
+        long slept = tick - region.sleptAtTick;
+        if (slept > 0 && step > 0) {
+            for (CrumblingBlock block : region.blocks)
+                block.catchUp(slept, step);
+        }
+    }
+
+    private void sleep(Region region) {
+        region.awake = false;
+        region.sleptAtTick = tick;
+        for (JumpPad pad : region.pads)
+            pad.reset();
+    }
+
+    private Region regionAt(float x, float y) {
+        return regions[toRow(y) * cols + toCol(x)];
+    }
+
+    private int toCol(float x) {
+        return Math.min(Math.max((int) Math.floor(x / REGION_SIZE), 0), cols - 1);
+    }
+
+    private int toRow(float y) {
+        return Math.min(Math.max((int) Math.floor(y / REGION_SIZE), 0), rows - 1);
+    }
+}
@@ -0,0 +1,238 @@
+package Assembly.Enjoyers.Map;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSets;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Потокове завантаження клітинок шарів тайлів частинами (chunk) по {@link #CHUNK_TILES}x{@link #CHUNK_TILES} тайлів.
+ * Тайли всіх шарів зберігаються у компактній {@link TileGrid}, а об'єкти {@link TiledMapTileLayer.Cell}
+ * існують лише для частин навколо камери. Клітинки створюються у власних шарах рендерингу
+ * ({@link #getRenderMap()}), а не в завантаженій мапі: мапа-ресурс спільна для всіх, хто її
+ * отримав з {@code AssetManager}, тому вона не змінюється.
+ * <ul>
+ *     <li>частини, що потрапляють у поле зору, створюються одразу;</li>
+ *     <li>наступна частина у напрямку руху камери підвантажується заздалегідь, не більше
+ *     {@link #PREFETCH_PER_FRAME} за кадр;</li>
+ *     <li>частини, що відійшли від поля зору більше ніж на одну частину, звільняються.</li>
+ * </ul>
+ * Тож кількість клітинок у пам'яті визначається розміром екрана, а не довжиною рівня: завантажувач
+ * рівнів ({@link LevelMapLoader}) не створює клітинок шарів тайлів, а ідентифікатори для частин
+ * читаються з {@link TileGrid}, тобто для запеченого чи кешованого рівня — прямо з відображеного
+ * у пам'ять файлу даних рівня. Розбір самого XML мапи (тайлсети, об'єкти) лишається повним.
+ */
+public class TileChunks {
+    /** Розмір частини у тайлах. */
+    public static final int CHUNK_TILES = 64;
+    /** Скільки частин наперед можна створити за один кадр. */
+    private static final int PREFETCH_PER_FRAME = 1;
+
+    private final TiledMapTileSets tileSets;
+    private final TileGrid grid;
+    /** Мапа для рендерингу: власні шари тайлів і ті самі нетайлові шари, що й у завантаженій мапі. */
+    private final TiledMap renderMap = new TiledMap();
+    /** Власні шари тайлів за індексом шару мапи; null для нетайлових шарів. */
+    private final TiledMapTileLayer[] layers;
+    private final int width;
+    private final int height;
+    private final int cols;
+    private final int rows;
+    private final boolean[] resident;
+    private int residentCount;
+
+    private int minCol = -1, maxCol = -1, minRow = -1, maxRow = -1;
+    private int directionX, directionY;
+    private float lastX = Float.NaN, lastY = Float.NaN;
+    private boolean prefetchPending;
+
+    /**
+     * Створює порожні шари рендерингу з тими самими властивостями, що й шари тайлів мапи.
+     * Клітинки з'являться при першому {@link #update(OrthographicCamera)}.
+     *
+     * @param map  завантажена мапа (не змінюється)
+     * @param grid тайли мапи
+     */
+    public TileChunks(TiledMap map, TileGrid grid) {
+        MapLayers mapLayers = map.getLayers();
+        this.tileSets = map.getTileSets();
+        this.grid = grid;
+        this.layers = new TiledMapTileLayer[mapLayers.getCount()];
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.cols = Math.max(1, (width + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.rows = Math.max(1, (height + CHUNK_TILES - 1) / CHUNK_TILES);
+        this.resident = new boolean[cols * rows];
+
+        for (int i = 0; i < layers.length; i++) {
+            MapLayer layer = mapLayers.get(i);
+            if (layer instanceof TiledMapTileLayer source) {
+                layers[i] = copyLayer(source);
+                layer = layers[i];
+            }
+            renderMap.getLayers().add(layer);
+        }
+    }
+
+    /**
+     * Створює порожній шар тайлів з розмірами та властивостями рендерингу шару мапи.
+     */
+    private static TiledMapTileLayer copyLayer(TiledMapTileLayer source) {
+        TiledMapTileLayer layer = new TiledMapTileLayer(source.getWidth(), source.getHeight(),
+            source.getTileWidth(), source.getTileHeight());
+        layer.setName(source.getName());
+        layer.setVisible(source.isVisible());
+        layer.setOpacity(source.getOpacity());
+        layer.setOffsetX(source.getOffsetX());
+        layer.setOffsetY(source.getOffsetY());
+        layer.setParallaxX(source.getParallaxX());
+        layer.setParallaxY(source.getParallaxY());
+        layer.setTintColor(source.getTintColor());
+        layer.getProperties().putAll(source.getProperties());
+        return layer;
+    }
+
+    /**
+     * Обчислює кількість частин мапи заданого розміру.
+     *
+     * @param width  ширина мапи у тайлах
+     * @param height висота мапи у тайлах
+     * @return кількість частин по {@link #CHUNK_TILES}x{@link #CHUNK_TILES} тайлів
+     */
+    public static int chunkCount(int width, int height) {
+        return Math.max(1, (width + CHUNK_TILES - 1) / CHUNK_TILES) * Math.max(1, (height + CHUNK_TILES - 1) / CHUNK_TILES);
+    }
+
+    /**
+     * Оновлює набір частин у пам'яті під поточне поле зору камери.
+     * Якщо поле зору не перетнуло межу частини і немає відкладеного підвантаження, метод нічого не робить.
+     *
+     * @param camera камера, через яку рендериться мапа
+     */
+    public void update(OrthographicCamera camera) {
+        float halfWidth = camera.viewportWidth * camera.zoom / 2, halfHeight = camera.viewportHeight * camera.zoom / 2;
+        float x = camera.position.x, y = camera.position.y;
+        if (!Float.isNaN(lastX)) {
+            if (x != lastX) directionX = x > lastX ? 1 : -1;
+            if (y != lastY) directionY = y > lastY ? 1 : -1;
+        }
+        lastX = x;
+        lastY = y;
+
+        int chunkSize = CHUNK_TILES * TileTyped.TILE_SIZE;
+        int newMinCol = toChunk(x - halfWidth, chunkSize, cols), newMaxCol = toChunk(x + halfWidth, chunkSize, cols);
+        int newMinRow = toChunk(y - halfHeight, chunkSize, rows), newMaxRow = toChunk(y + halfHeight, chunkSize, rows);
+        if (newMinCol == minCol && newMaxCol == maxCol && newMinRow == minRow && newMaxRow == maxRow && !prefetchPending)
+            return;
+        minCol = newMinCol;
+        maxCol = newMaxCol;
+        minRow = newMinRow;
+        maxRow = newMaxRow;
+
+        for (int row = minRow; row <= maxRow; row++)
+            for (int col = minCol; col <= maxCol; col++)
+                load(col, row);
+
+        int budget = PREFETCH_PER_FRAME;
+        prefetchPending = false;
+        int aheadCol = directionX > 0 ? maxCol + 1 : minCol - 1, aheadRow = directionY > 0 ? maxRow + 1 : minRow - 1;
+        if (directionX != 0 && aheadCol >= 0 && aheadCol < cols) {
+            for (int row = minRow; row <= maxRow; row++) {
+                if (resident[row * cols + aheadCol]) continue;
+                if (budget-- > 0) load(aheadCol, row);
+                else prefetchPending = true;
+            }
+        }
+        if (directionY != 0 && aheadRow >= 0 && aheadRow < rows) {
+            for (int col = minCol; col <= maxCol; col++) {
+                if (resident[aheadRow * cols + col]) continue;
+                if (budget-- > 0) load(col, aheadRow);
+                else prefetchPending = true;
+            }
+        }
+
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                boolean keep = col >= minCol - 1 && col <= maxCol + 1 && row >= minRow - 1 && row <= maxRow + 1;
+                if (!keep && resident[row * cols + col]) evict(col, row);
+            }
+        }
+    }
+
+    /**
+     * @return мапа для рендерингу: шари тайлів з клітинками частин у пам'яті та нетайлові шари завантаженої мапи
+     */
+    public TiledMap getRenderMap() {
+        return renderMap;
+    }
+
+    /**
+     * @return кількість частин у пам'яті
+     */
+    public int getResidentCount() {
+        return residentCount;
+    }
+
+    /**
+     * @return загальна кількість частин мапи
+     */
+    public int getChunkCount() {
+        return cols * rows;
+    }
+
+    private void load(int chunkCol, int chunkRow) {
+        int chunk = chunkRow * cols + chunkCol;
+        if (resident[chunk]) return;
+        resident[chunk] = true;
+        residentCount++;
+
+        int startCol = chunkCol * CHUNK_TILES, endCol = Math.min(startCol + CHUNK_TILES, width);
+        int startRow = chunkRow * CHUNK_TILES, endRow = Math.min(startRow + CHUNK_TILES, height);
+        for (int i = 0; i < layers.length; i++) {
+            if (layers[i] == null) continue;
+            IntBuffer ids = grid.getLayerIds(i);
+            ByteBuffer flags = grid.getLayerFlags(i);
+            for (int row = startRow; row < endRow; row++) {
+                for (int col = startCol; col < endCol; col++) {
+                    int index = row * width + col, id = ids.get(index);
+                    if (id != 0) layers[i].setCell(col, row, createCell(id, flags.get(index)));
+                }
+            }
+        }
+    }
+
+    private void evict(int chunkCol, int chunkRow) {
+        resident[chunkRow * cols + chunkCol] = false;
+        residentCount--;
+
+        int startCol = chunkCol * CHUNK_TILES, endCol = Math.min(startCol + CHUNK_TILES, width);
+        int startRow = chunkRow * CHUNK_TILES, endRow = Math.min(startRow + CHUNK_TILES, height);
+        for (TiledMapTileLayer layer : layers) {
+            if (layer == null) continue;
+            for (int row = startRow; row < endRow; row++)
+                for (int col = startCol; col < endCol; col++)
+                    layer.setCell(col, row, null);
+        }
+    }
+
+    private TiledMapTileLayer.Cell createCell(int id, byte flags) {
+        TiledMapTile tile = tileSets.getTile(id);
+        if (tile == null) return null;
+        TiledMapTileLayer.Cell cell = new TiledMapTileLayer.Cell();
+        cell.setTile(tile);
+        cell.setFlipHorizontally((flags & TileGrid.FLIP_HORIZONTALLY) != 0);
+        cell.setFlipVertically((flags & TileGrid.FLIP_VERTICALLY) != 0);
+        cell.setRotation(flags >> TileGrid.ROTATION_SHIFT & 3);
+        return cell;
+    }
+
+    private static int toChunk(float coordinate, int chunkSize, int count) {
+        return Math.min(Math.max((int) Math.floor(coordinate / chunkSize), 0), count - 1);
+    }
+}
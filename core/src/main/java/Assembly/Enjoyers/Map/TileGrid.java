@@ -0,0 +1,140 @@
+package Assembly.Enjoyers.Map;
+
+import Assembly.Enjoyers.Map.Baked.LevelData;
+import com.badlogic.gdx.maps.MapLayers;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Компактне сховище тайлів усіх шарів мапи для ігрових запитів: по буферу {@code int}
+ * ідентифікаторів на шар (0 — порожньо) і буферу {@code byte} з віддзеркаленням та поворотом
+ * для рендерингу. Вид тайла за координатами — одне звернення до буфера і одне до таблиці
+ * {@link TileRegistry}, без об'єктів {@link TiledMapTileLayer.Cell}.
+ * <p>
+ * Буфери беруться з ігрових даних рівня ({@link LevelData}) без копіювання: для запеченого чи
+ * кешованого файлу це представлення відображеного у пам'ять файлу. Клітинки завантаженої мапи
+ * не читаються і не змінюються, тож мапа-ресурс лишається придатною для повторного використання.
+ */
+public class TileGrid {
+    /** Біти прапорців клітинки: віддзеркалення та поворот (0..3). */
+    static final int FLIP_HORIZONTALLY = 1;
+    static final int FLIP_VERTICALLY = 1 << 1;
+    static final int ROTATION_SHIFT = 2;
+
+    private final TileRegistry tiles;
+    private final int width;
+    private final int height;
+    /** Ідентифікатори тайлів кожного шару, індекс {@code row * width + col}; null для нетайлових шарів. */
+    private final IntBuffer[] ids;
+    /** Прапорці клітинок кожного шару (паралельно {@link #ids}). */
+    private final ByteBuffer[] flags;
+
+    /**
+     * Зіставляє шари тайлів з ігрових даних (у порядку мапи) з шарами тайлів верхнього рівня мапи.
+     * Якщо даних про шар немає (дані застарілі відносно мапи), шар вважається порожнім.
+     *
+     * @param layers шари завантаженої мапи
+     * @param data   ігрові дані рівня
+     * @param tiles  поведінка тайлів мапи
+     */
+    public TileGrid(MapLayers layers, LevelData data, TileRegistry tiles) {
+        this.tiles = tiles;
+        this.width = data.getWidth();
+        this.height = data.getHeight();
+        this.ids = new IntBuffer[layers.getCount()];
+        this.flags = new ByteBuffer[layers.getCount()];
+
+        int tileLayer = 0;
+        for (int i = 0; i < layers.getCount(); i++) {
+            if (!(layers.get(i) instanceof TiledMapTileLayer)) continue;
+            if (tileLayer < data.getTileLayerCount()) {
+                ids[i] = data.getTileIds(tileLayer);
+                flags[i] = data.getTileFlags(tileLayer);
+            } else {
+                ids[i] = IntBuffer.allocate(width * height);
+                flags[i] = ByteBuffer.allocate(width * height);
+            }
+            tileLayer++;
+        }
+    }
+
+    /**
+     * Пакує віддзеркалення та поворот клітинки у формат прапорців сітки.
+     *
+     * @param flipHorizontally віддзеркалення по горизонталі
+     * @param flipVertically   віддзеркалення по вертикалі
+     * @param rotation         поворот на 90° проти годинникової стрілки (0..3), як у {@link TiledMapTileLayer.Cell}
+     * @return прапорці клітинки
+     */
+    public static byte packFlags(boolean flipHorizontally, boolean flipVertically, int rotation) {
+        return (byte) ((flipHorizontally ? FLIP_HORIZONTALLY : 0)
+            | (flipVertically ? FLIP_VERTICALLY : 0)
+            | (rotation & 3) << ROTATION_SHIFT);
+    }
+
+    /**
+     * Повертає ідентифікатор тайла у клітинці.
+     *
+     * @param layer індекс шару мапи
+     * @param col   стовпчик
+     * @param row   рядок
+     * @return ідентифікатор тайла або 0, якщо клітинка порожня, поза мапою чи шар не є шаром тайлів
+     */
+    public int getTileId(int layer, int col, int row) {
+        if (layer < 0 || layer >= ids.length || ids[layer] == null) return 0;
+        if (col < 0 || col >= width || row < 0 || row >= height) return 0;
+        return ids[layer].get(row * width + col);
+    }
+
+    /**
+     * Повертає вид тайла у клітинці.
+     *
+     * @param layer індекс шару мапи
+     * @param col   стовпчик
+     * @param row   рядок
+     * @return вид тайла або null, якщо клітинка порожня чи тайл не має поведінки
+     */
+    public TileKind getTileType(int layer, int col, int row) {
+        return tiles.get(getTileId(layer, col, row));
+    }
+
+    /**
+     * Повертає ідентифікатори тайлів шару (спільний буфер, читати лише абсолютними {@code get(index)}).
+     *
+     * @param layer індекс шару мапи
+     * @return буфер з індексом {@code row * width + col} або null, якщо шар не є шаром тайлів
+     */
+    public IntBuffer getLayerIds(int layer) {
+        return ids[layer];
+    }
+
+    /**
+     * @return прапорці віддзеркалення та повороту клітинок шару (спільний буфер)
+     */
+    ByteBuffer getLayerFlags(int layer) {
+        return flags[layer];
+    }
+
+    /**
+     * @return кількість шарів мапи (включно з об'єктними)
+     */
+    public int getLayerCount() {
+        return ids.length;
+    }
+
+    /**
+     * @return ширина у клітинках
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return висота у клітинках
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,71 @@
+package Assembly.Enjoyers.Map;
+
+import Assembly.Enjoyers.Map.Collision.TileShape;
+
+/**
+ * Поведінка тайла на мапі: колізійність, ефект і форма колізії (для шипів — вставка небезпечної зони).
+ * Задається властивостями тайла у тайлсеті Tiled і збирається у {@link TileRegistry},
+ * тож новий вид тайла не потребує змін у коді.
+ */
+public final class TileKind {
+    private final String name;
+    private final boolean collidable;
+    private final TileTyped.TileEffectType effectType;
+    private final TileShape shape;
+
+    /**
+     * @param name       ім'я виду (тип тайла у Tiled)
+     * @param collidable чи має тайл колізію
+     * @param effectType тип ефекту тайла
+     * @param shape      форма колізії тайла
+     */
+    public TileKind(String name, boolean collidable, TileTyped.TileEffectType effectType, TileShape shape) {
+        this.name = name;
+        this.collidable = collidable;
+        this.effectType = effectType;
+        this.shape = shape;
+    }
+
+    /**
+     * Створює вид тайла з параметрами вбудованого типу {@link TileTyped}.
+     *
+     * @param tileType тип плитки
+     * @return вид тайла з тим самим ім'ям, ефектом і формою
+     */
+    public static TileKind of(TileTyped tileType) {
+        return new TileKind(tileType.name(), tileType.isCollidable(), tileType.getEffectType(), tileType.getShape());
+    }
+
+    /**
+     * @return ім'я виду (тип тайла у Tiled)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return true, якщо тайл колізійний
+     */
+    public boolean isCollidable() {
+        return collidable;
+    }
+
+    /**
+     * @return тип ефекту тайла
+     */
+    public TileTyped.TileEffectType getEffectType() {
+        return effectType;
+    }
+
+    /**
+     * @return форма колізії тайла
+     */
+    public TileShape getShape() {
+        return shape;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
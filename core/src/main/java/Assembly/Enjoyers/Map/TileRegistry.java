@@ -0,0 +1,156 @@
+package Assembly.Enjoyers.Map;
+
+import Assembly.Enjoyers.Map.Collision.TileShape;
+import com.badlogic.gdx.maps.MapProperties;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTile;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Поведінка тайлів мапи за глобальним ідентифікатором (gid): пряма таблиця {@code TileKind[]},
+ * тож пошук — одне звернення до масиву.
+ * <p>
+ * Таблиця будується з властивостей тайлів у тайлсетах ({@code <tile>} у .tsx):
+ * <ul>
+ *     <li>{@value #COLLIDABLE} — чи має тайл колізію (bool, за замовчуванням true);</li>
+ *     <li>{@value #EFFECT} — ефект, ім'я {@link TileTyped.TileEffectType} (за замовчуванням NONE);</li>
+ *     <li>{@value #SHAPE} — форма колізії, ім'я {@link TileShape}; для шипів — вставка небезпечної зони
+ *     (за замовчуванням FULL).</li>
+ * </ul>
+ * Тайл без жодної з цих властивостей не має поведінки. Ідентифікатори обчислюються з {@code firstgid}
+ * тайлсетів конкретної мапи, тож зміна порядку тайлсетів не ламає колізії.
+ * Якщо тайлсети мапи не задають поведінку жодному тайлу, використовується вбудована
+ * таблиця {@link TileTyped} з фіксованими ідентифікаторами.
+ */
+public final class TileRegistry {
+    public static final String COLLIDABLE = "collidable";
+    public static final String EFFECT = "effect";
+    public static final String SHAPE = "shape";
+
+    private static TileRegistry legacy;
+
+    private final TileKind[] byGid;
+    private final boolean fromTilesets;
+
+    private TileRegistry(TileKind[] byGid, boolean fromTilesets) {
+        this.byGid = byGid;
+        this.fromTilesets = fromTilesets;
+    }
+
+    /**
+     * Будує таблицю з властивостей тайлів завантаженої мапи.
+     *
+     * @param map завантажена мапа
+     * @return таблиця поведінки тайлів мапи
+     */
+    public static TileRegistry of(TiledMap map) {
+        Builder builder = new Builder();
+        for (TiledMapTileSet tileSet : map.getTileSets()) {
+            for (TiledMapTile tile : tileSet) {
+                MapProperties properties = tile.getProperties();
+                builder.addTile(tile.getId(), properties.get("type", String.class), key -> {
+                    Object value = properties.get(key);
+                    return value != null ? value.toString() : null;
+                });
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return таблиця з фіксованими ідентифікаторами {@link TileTyped}
+     */
+    public static synchronized TileRegistry legacy() {
+        if (legacy == null) {
+            Builder builder = new Builder();
+            for (TileTyped tileType : TileTyped.values())
+                builder.put(tileType.getId(), TileKind.of(tileType));
+            legacy = new TileRegistry(builder.table(), false);
+        }
+        return legacy;
+    }
+
+    /**
+     * Повертає поведінку тайла.
+     *
+     * @param gid глобальний ідентифікатор тайла
+     * @return вид тайла або null, якщо тайл не має поведінки
+     */
+    public TileKind get(int gid) {
+        return gid >= 0 && gid < byGid.length ? byGid[gid] : null;
+    }
+
+    /**
+     * Шукає перший тайл виду з заданим ім'ям.
+     *
+     * @param name ім'я виду (тип тайла у Tiled)
+     * @return глобальний ідентифікатор або 0, якщо такого тайла немає
+     */
+    public int findGid(String name) {
+        for (int gid = 1; gid < byGid.length; gid++) {
+            if (byGid[gid] != null && byGid[gid].getName().equals(name)) return gid;
+        }
+        return 0;
+    }
+
+    /**
+     * @return true, якщо поведінку задано властивостями тайлсетів, false — вбудована таблиця
+     */
+    public boolean isFromTilesets() {
+        return fromTilesets;
+    }
+
+    /**
+     * Збирає таблицю з тайлів тайлсетів. Використовується і в грі ({@link #of(TiledMap)}),
+     * і під час запікання рівнів, тож обидва джерела дають однакові таблиці.
+     */
+    public static class Builder {
+        private TileKind[] byGid = new TileKind[64];
+        private int maxGid;
+
+        /**
+         * Додає тайл, якщо його властивості задають поведінку.
+         *
+         * @param gid        глобальний ідентифікатор тайла
+         * @param type       тип тайла у Tiled або null
+         * @param properties значення властивості тайла за ім'ям або null, якщо її немає
+         * @throws IllegalArgumentException якщо ефект або форма мають невідоме ім'я
+         */
+        public void addTile(int gid, String type, Function<String, String> properties) {
+            String collidable = properties.apply(COLLIDABLE);
+            String effect = properties.apply(EFFECT);
+            String shape = properties.apply(SHAPE);
+            if (collidable == null && effect == null && shape == null) return;
+
+            try {
+                put(gid, new TileKind(type != null ? type : "",
+                    collidable == null || Boolean.parseBoolean(collidable),
+                    effect == null ? TileTyped.TileEffectType.NONE : TileTyped.TileEffectType.valueOf(effect),
+                    shape == null ? TileShape.FULL : TileShape.valueOf(shape)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid behaviour of tile " + gid + " (" + type + "): " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * @return таблиця з доданих тайлів або вбудована, якщо жоден тайл не задав поведінку
+         */
+        public TileRegistry build() {
+            return maxGid == 0 ? legacy() : new TileRegistry(table(), true);
+        }
+
+        private void put(int gid, TileKind kind) {
+            if (gid <= 0) throw new IllegalArgumentException("Invalid tile id " + gid);
+            if (gid >= byGid.length) byGid = Arrays.copyOf(byGid, Math.max(gid + 1, byGid.length * 2));
+            byGid[gid] = kind;
+            maxGid = Math.max(maxGid, gid);
+        }
+
+        private TileKind[] table() {
+            return Arrays.copyOf(byGid, maxGid + 1);
+        }
+    }
+}
@@ -1,17 +1,17 @@
 package Assembly.Enjoyers.Map;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
-
-import java.util.HashMap;
+import Assembly.Enjoyers.Map.Collision.TileShape;
 
 /**
  * Перерахування, яке представляє типи плиток (tiles) на мапі гри.
- * Кожен тип має свій унікальний ID, назву, ефект і ознаку про колізійність.
+ * Кожен тип має свій унікальний ID, назву, ефект, ознаку про колізійність та форму колізії.
+ * <p>
+ * Поведінка тайлів задається властивостями тайлсетів ({@link TileRegistry}); фіксовані ID тут
+ * використовуються лише для мап, тайлсети яких її не задають.
  */
 public enum TileTyped {
 
-    SteelSpike(268, true, "SteelSpike", TileEffectType.SPIKE),
+    SteelSpike(268, true, "SteelSpike", TileEffectType.SPIKE, TileShape.INSET_MEDIUM),
     BrickWall(248, true, "BrickWall", TileEffectType.NONE),
     RightCastleWall(247, true, "BrickWall", TileEffectType.NONE),
     GrassBlock(327, true, "GrassBlock", TileEffectType.NONE),
@@ -21,12 +21,12 @@ public enum TileTyped {
     LeftGrassBlock(326, true, "LeftGrassBlock", TileEffectType.NONE),
     LeftDirtWall(337, true, "LeftDirtWall", TileEffectType.NONE),
     RightDirtWall(339, true, "RightDirtWall", TileEffectType.NONE),
-    BoneSpike(614, true, "BoneSpike",  TileEffectType.SPIKE),
+    BoneSpike(614, true, "BoneSpike",  TileEffectType.SPIKE, TileShape.INSET_SMALL),
     BloodLeftSpike(616, true, "BloodLeftSpike",  TileEffectType.SPIKE),
     BloodRightSpike(617, true, "BloodRightSpike",  TileEffectType.SPIKE),
-    LeftWoodPlatform(272, true, "LeftWoodPlatform",  TileEffectType.NONE),
-    FlatWoodPlatform(273, true, "FlatWoodPlatform",  TileEffectType.NONE),
-    RightWoodPlatform(274, true, "RightWoodPlatform",  TileEffectType.NONE),
+    LeftWoodPlatform(272, true, "LeftWoodPlatform",  TileEffectType.NONE, TileShape.ONE_WAY),
+    FlatWoodPlatform(273, true, "FlatWoodPlatform",  TileEffectType.NONE, TileShape.ONE_WAY),
+    RightWoodPlatform(274, true, "RightWoodPlatform",  TileEffectType.NONE, TileShape.ONE_WAY),
     CastlePlatform(238, true, "CastlePlatform",  TileEffectType.NONE),
     RightCastleCorner(239, true, "RightCastleCorner", TileEffectType.NONE),
     CastleBrick(246, true, "StoneBlock", TileEffectType.NONE),
@@ -44,9 +44,10 @@ public enum TileTyped {
     private boolean collidable;
     private String name;
     private TileEffectType effectType;
+    private TileShape shape;
 
     /**
-     * Конструктор для типу плитки.
+     * Конструктор для типу плитки з повною формою колізії.
      *
      * @param id         унікальний ідентифікатор
      * @param collidable чи має плитка колізію
@@ -54,10 +55,24 @@ public enum TileTyped {
      * @param effectType тип ефекту плитки
      */
     TileTyped(int id, boolean collidable, String name, TileEffectType effectType) {
+        this(id, collidable, name, effectType, TileShape.FULL);
+    }
+
+    /**
+     * Конструктор для типу плитки.
+     *
+     * @param id         унікальний ідентифікатор
+     * @param collidable чи має плитка колізію
+     * @param name       ім'я плитки
+     * @param effectType тип ефекту плитки
+     * @param shape      форма колізії плитки
+     */
+    TileTyped(int id, boolean collidable, String name, TileEffectType effectType, TileShape shape) {
         this.id = id;
         this.collidable = collidable;
         this.name = name;
         this.effectType = effectType;
+        this.shape = shape;
     }
 
     /**
@@ -87,13 +102,25 @@ public enum TileTyped {
         return collidable;
     }
 
-    private static Int2ObjectMap<TileTyped> tileMap;
+    /**
+     * Повертає форму колізії плитки (повна, половинка, схил, одностороння, вставка).
+     *
+     * @return форма колізії
+     */
+    public TileShape getShape() {
+        return shape;
+    }
+
+    /** Типи плиток за ID: пряма таблиця замість хеш-мапи, ID плиток невеликі й щільні. */
+    private static final TileTyped[] BY_ID;
 
     static {
-        tileMap = new Int2ObjectOpenHashMap<>();
-        for (TileTyped tileType : TileTyped.values()) {
-            tileMap.put(tileType.getId(), tileType);
-        }
+        int maxId = 0;
+        for (TileTyped tileType : TileTyped.values())
+            maxId = Math.max(maxId, tileType.getId());
+        BY_ID = new TileTyped[maxId + 1];
+        for (TileTyped tileType : TileTyped.values())
+            BY_ID[tileType.getId()] = tileType;
     }
 
     /**
@@ -103,7 +130,7 @@ public enum TileTyped {
      * @return відповідний TileTyped або null, якщо не знайдено
      */
     public static TileTyped getTileTypeById(int id) {
-        return tileMap.get(id);
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
     }
 
 
@@ -3,23 +3,36 @@ package Assembly.Enjoyers.Map;
 import Assembly.Enjoyers.Utils.Assets;
 import Assembly.Enjoyers.Map.AnimatedBlocks.CrumblingBlock;
 import Assembly.Enjoyers.Map.AnimatedBlocks.JumpPad;
+import Assembly.Enjoyers.Map.AnimatedBlocks.MovingPlatform;
+import Assembly.Enjoyers.Map.Baked.LevelCache;
+import Assembly.Enjoyers.Map.Baked.LevelData;
+import Assembly.Enjoyers.Map.Baked.LevelFile;
+import Assembly.Enjoyers.Map.Baked.TmxReader;
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
+import Assembly.Enjoyers.Map.Trigger.TriggerIndex;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.TextMapObject;
 import com.badlogic.gdx.maps.tiled.*;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.List;
 
-import static Assembly.Enjoyers.Map.TileTyped.BoneSpike;
-import static Assembly.Enjoyers.Map.TileTyped.SteelSpike;
-
 /**
  * Реалізація мапи гри на основі Tiled (.tmx).
  * Завантажує карту, рендерить її та обробляє колізії і пастки (SPIKE).
@@ -28,35 +41,65 @@ public class TiledGameMap extends GameMap {
     private final TiledMap tiledMap;
     private final OrthogonalTiledMapRenderer tiledMapRender;
 
-    private final List<Rectangle> collisionRects = new ArrayList<>();
-    private final List<Rectangle> spikeRects = new ArrayList<>();
-    private final List<CrumblingBlock> crumblingBlocks = new ArrayList<>();
-    private final List<JumpPad> jumpPads = new ArrayList<>();
+    private final List<Rectangle> collisionRects;
+    private final SpatialGrid collisionGrid;
+    private final SolidityGrid solidityGrid;
+    private final LevelWorld world;
     private BitmapFont font;
     private SpriteBatch batch;
     private final String levelPath;
+    private final boolean mergeCollisions;
+    private final LevelData levelData;
+    private final TileRegistry tiles;
+    private final TileGrid tileGrid;
+    private final TileChunks tileChunks;
 
     /**
      * Завантажує Tiled-карту з TMX-файлу та ініціалізує рендерер.
+     * Суцільні тайли об'єднуються у великі прямокутники колізій.
      */
     public TiledGameMap(String levelPath) {
+        this(levelPath, true);
+    }
+
+    /**
+     * Завантажує Tiled-карту з TMX-файлу та ініціалізує рендерер.
+     *
+     * @param levelPath       шлях до TMX-файлу рівня
+     * @param mergeCollisions чи об'єднувати суцільні тайли у великі прямокутники колізій
+     */
+    public TiledGameMap(String levelPath, boolean mergeCollisions) {
         this.levelPath =  levelPath;
+        this.mergeCollisions = mergeCollisions;
         tiledMap = Assets.getLevel(levelPath);
-        tiledMapRender = new OrthogonalTiledMapRenderer(tiledMap);
-        batch = (SpriteBatch) tiledMapRender.getBatch();
         Skin skin = new Skin(Gdx.files.internal("skin/uiskin.json"));
         font = skin.getFont("default-font");
-        generateCollisionData();
+        tiles = TileRegistry.of(tiledMap);
+        if (!tiles.isFromTilesets())
+            Gdx.app.log("TiledGameMap", "Tilesets of " + levelPath + " define no tile behaviour, using built-in tile ids");
+        levelData = loadLevelData();
+        tileGrid = new TileGrid(tiledMap.getLayers(), levelData, tiles);
+        solidityGrid = levelData.getGrid();
+        collisionRects = levelData.getCollisionRects();
+        collisionGrid = levelData.getCollisionGrid();
+        world = new LevelWorld(levelData, tiles);
+        loadMovingPlatforms();
+        tileChunks = new TileChunks(tiledMap, tileGrid);
+        Gdx.app.log("TiledGameMap", "Tile chunks for " + levelPath + ": " + tileChunks.getChunkCount()
+            + " of " + TileChunks.CHUNK_TILES + "x" + TileChunks.CHUNK_TILES + " tiles");
+        tiledMapRender = new OrthogonalTiledMapRenderer(tileChunks.getRenderMap());
+        batch = (SpriteBatch) tiledMapRender.getBatch();
         font.getData().setScale(2f);
     }
 
     /**
-     * Рендерить карту на основі положення камери.
+     * Рендерить карту на основі положення камери, спершу підвантажуючи частини шарів навколо неї.
      *
      * @param camera ортографічна камера
      */
     @Override
     public void render(OrthographicCamera camera) {
+        tileChunks.update(camera);
         tiledMapRender.setView(camera);
         tiledMapRender.render();
 
@@ -70,13 +113,15 @@ public class TiledGameMap extends GameMap {
     }
 
     /**
-     * Оновлення стану мапи (не використовується).
+     * Оновлює рухомі платформи та об'єкти мапи в активних регіонах симуляції.
+     * Платформи рухаються завжди, незалежно від регіонів, щоб їх положення не залежало
+     * від того, де гравець.
      *
-     * @param delta час з моменту останнього кадру
+     * @param delta тривалість кроку симуляції
      */
     @Override
     public void update(float delta) {
-
+        world.update(delta);
     }
 
     /**
@@ -85,58 +130,121 @@ public class TiledGameMap extends GameMap {
     @Override
     public void dispose() {
         Assets.unloadLevel(levelPath);
-        collisionRects.clear();
-        spikeRects.clear();
         tiledMapRender.dispose();
     }
 
     /**
-     * Генерує дані колізій, шипів, crumble-блоків та трамплінів із тайлів мапи.
-     * Аналізує кожну клітинку кожного шару на основі типу тайлу.
-     */
-    private void generateCollisionData() {
-        int tileSize = TileTyped.TILE_SIZE;
-
-        for (int layer = 0; layer < getLayers(); layer++) {
-
-            if(tiledMap.getLayers().get(layer) instanceof TiledMapTileLayer tiledLayer)
-            {
-                for (int x = 0; x < tiledLayer.getWidth(); x++) {
-                    for (int y = 0; y < tiledLayer.getHeight(); y++) {
-                        TiledMapTileLayer.Cell cell = tiledLayer.getCell(x, y);
-                        if (cell == null || cell.getTile() == null) continue;
-
-                        TileTyped tileType = TileTyped.getTileTypeById(cell.getTile().getId());
-                        if (tileType == null) continue;
-
-                        int tileX = x * tileSize;
-                        int tileY = y * tileSize;
-
-                        if (tileType.getEffectType() == TileTyped.TileEffectType.SPIKE) {
-                            if (tileType == BoneSpike) {
-                                int offset = tileSize / 8;
-                                int size = tileSize / 4;
-                                spikeRects.add(new Rectangle(tileX + offset, tileY + offset, size, size));
-                            } else if (tileType == SteelSpike) {
-                                int offset = tileSize / 8;
-                                int size = tileSize / 2;
-                                spikeRects.add(new Rectangle(tileX + offset, tileY + offset, size, size));
-                            }
-                            else {
-                                spikeRects.add(new Rectangle(tileX, tileY, tileSize, tileSize));
-                            }
-                        } else if (tileType.getEffectType() == TileTyped.TileEffectType.CRUMBLING) {
-                            crumblingBlocks.add(new CrumblingBlock(tileX, tileY, tileSize, tileSize));
-                        } else if (tileType.getEffectType() == TileTyped.TileEffectType.JUMP_PAD) {
-                            jumpPads.add(new JumpPad(tileX, tileY, tileSize, tileSize));
-                        }
-                        else if (tileType.isCollidable()) {
-                            collisionRects.add(new Rectangle(tileX, tileY, tileSize, tileSize));
-                        }
-                    }
+     * Завантажує ігрові дані рівня: спершу запечений під час збірки файл {@code map.level}
+     * ({@link LevelFile}), потім локальний кеш ({@link LevelCache}), ключем обох є хеш TMX і його тайлсетів
+     * (обчислюється один раз за запуск гри, {@link LevelCache#sourceHash(String)}).
+     * Якщо вихідні файли змінилися, рівень стартує із застарілих запечених чи кешованих даних
+     * (якщо розміри мапи ті самі), а актуальні дані будуються у фоні і будуть використані
+     * з наступного завантаження ({@link LevelCache#rebuildAsync}). Лише коли придатних даних немає зовсім,
+     * вони будуються з TMX тим самим {@link TmxReader}, що й під час збірки, до старту рівня (без колізій
+     * гра не може зробити першого кроку), а кеш оновлюється у фоні.
+     * Запечені та кешовані дані завжди містять об'єднані прямокутники, тому без об'єднання вони не використовуються.
+     */
+    private LevelData loadLevelData() {
+        long start = System.nanoTime();
+        long sourceHash = LevelCache.sourceHash(levelPath);
+        LevelData data = null;
+        String source = "tmx";
+        if (mergeCollisions) {
+            LevelData baked = readLevelFile(Gdx.files.internal(levelPath.replace(".tmx", ".level")));
+            if (baked != null && baked.getSourceHash() == sourceHash) {
+                data = baked;
+                source = "baked";
+            } else {
+                data = readLevelFile(LevelCache.file(levelPath, sourceHash));
+                source = "cache";
+                if (data == null || data.getSourceHash() != sourceHash) {
+                    data = baked != null ? baked : readLevelFile(LevelCache.latest(levelPath));
+                    source = "stale, rebuilding";
+                    if (data != null) LevelCache.rebuildAsync(levelPath, sourceHash);
                 }
             }
         }
+        if (data == null) {
+            data = buildLevelData(sourceHash);
+            source = "tmx";
+            if (mergeCollisions) LevelCache.storeAsync(levelPath, data);
+        }
+        Gdx.app.log("TiledGameMap", "Collision rects for " + levelPath + " (" + source + "): "
+            + data.getFullTileCount() + " tiles -> " + data.getCollisionRects().size() + " rects in "
+            + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return data;
+    }
+
+    /**
+     * Читає файл даних рівня (запечений або з кешу), якщо він існує, має поточну версію формату
+     * і розміри поточної мапи; чи побудований він з поточних вихідних файлів, перевіряє викликач.
+     * Файл відображається у пам'ять лише для читання; якщо це неможливо (ресурс усередині jar),
+     * він читається у купу. Прямокутники колізій створюються з буфера ліниво, при першому запиті до їх регіону.
+     *
+     * @return дані рівня або null
+     */
+    private LevelData readLevelFile(FileHandle file) {
+        if (file == null || !file.exists()) return null;
+
+        try {
+            LevelData data = LevelFile.read(mapReadOnly(file));
+            if (data == null) Gdx.app.log("TiledGameMap", "Level data " + file.path() + " has an old format");
+            else if (data.getWidth() != getWidth() || data.getHeight() != getHeight()) return null;
+            return data;
+        } catch (IOException e) {
+            Gdx.app.error("TiledGameMap", "Failed to read level data " + file.path(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Відображає файл у пам'ять лише для читання або, якщо файл недоступний як звичайний
+     * (наприклад, запакований у jar), читає його вміст у буфер.
+     */
+    private static ByteBuffer mapReadOnly(FileHandle file) {
+        try {
+            return file.map(FileChannel.MapMode.READ_ONLY);
+        } catch (GdxRuntimeException e) {
+            return ByteBuffer.wrap(file.readBytes());
+        }
+    }
+
+    /**
+     * Будує ігрові дані з вмісту TMX-файлу та його тайлсетів.
+     * Шари тайлів класифікуються паралельно смугами стовпчиків у спільному пулі потоків.
+     */
+    private LevelData buildLevelData(long sourceHash) {
+        FileHandle tmx = Gdx.files.internal(levelPath);
+        try {
+            return TmxReader.read(tmx.readBytes(), sourceHash, LevelCache.tilesets(tmx), mergeCollisions);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Failed to read level " + levelPath, e);
+        }
+    }
+
+    /**
+     * Задає текстури рухомим платформам, створеним з шляхів об'єктного шару "Platforms".
+     * Кожна ламана (polyline) задає шлях лівого нижнього кута платформи, замкнений
+     * полігон — циклічний шлях. Властивості об'єкта: {@code speed} (пікселі за секунду),
+     * {@code platformWidth} та {@code platformHeight} у тайлах, {@code loop} — рухатися по колу замість руху назад.
+     * Якщо шару немає, рівень просто не має платформ.
+     */
+    private void loadMovingPlatforms() {
+        TextureRegion left = tileRegion(TileTyped.LeftWoodPlatform.name());
+        TextureRegion middle = tileRegion(TileTyped.FlatWoodPlatform.name());
+        TextureRegion right = tileRegion(TileTyped.RightWoodPlatform.name());
+
+        for (MovingPlatform platform : world.getMovingPlatforms())
+            platform.setRegions(left, middle, right);
+        Gdx.app.log("TiledGameMap", "Moving platforms for " + levelPath + ": " + world.getMovingPlatforms().size());
+    }
+
+    /**
+     * Повертає текстуру першого тайла виду з заданим ім'ям або null, якщо тайлсети рівня його не містять.
+     */
+    private TextureRegion tileRegion(String kind) {
+        TiledMapTile tile = tiledMap.getTileSets().getTile(tiles.findGid(kind));
+        return tile != null ? tile.getTextureRegion() : null;
     }
 
     /**
@@ -149,6 +257,38 @@ public class TiledGameMap extends GameMap {
         return collisionRects;
     }
 
+    /**
+     * @return просторова сітка прямокутників колізії, побудована один раз при завантаженні мапи
+     */
+    @Override
+    public SpatialGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    /**
+     * @return бітова маска суцільних, небезпечних та ефектних клітинок мапи
+     */
+    @Override
+    public SolidityGrid getSolidityGrid() {
+        return solidityGrid;
+    }
+
+    /**
+     * @return світ колізій: маска клітинок плюс crumble-блоки, що зареєстровані як динамічні тіла
+     */
+    @Override
+    public CollisionWorld getCollisionWorld() {
+        return world.getCollisionWorld();
+    }
+
+    /**
+     * @return просторовий індекс шипів і crumble-блоків для перевірки смерті гравця
+     */
+    @Override
+    public HazardIndex getHazardIndex() {
+        return world.getHazardIndex();
+    }
+
     /**
      * Повертає список прямокутників шипів (SPIKE), включно зі зміною розміру для BoneSpike.
      *
@@ -156,7 +296,7 @@ public class TiledGameMap extends GameMap {
      */
     @Override
     public List<Rectangle> getSpikes() {
-        return spikeRects;
+        return world.getSpikes();
     }
 
     /**
@@ -164,7 +304,7 @@ public class TiledGameMap extends GameMap {
      */
     @Override
     public List<CrumblingBlock> getCrumblingBlocks() {
-        return crumblingBlocks;
+        return world.getCrumblingBlocks();
     }
 
     /**
@@ -172,7 +312,61 @@ public class TiledGameMap extends GameMap {
      */
     @Override
     public List<JumpPad> getJumpPads() {
-        return jumpPads;
+        return world.getJumpPads();
+    }
+
+    /**
+     * @return список рухомих платформ рівня
+     */
+    @Override
+    public List<MovingPlatform> getMovingPlatforms() {
+        return world.getMovingPlatforms();
+    }
+
+    /**
+     * Повертає індекс тригерних зон рівня.
+     *
+     * @return індекс тригерних зон
+     */
+    @Override
+    public TriggerIndex getTriggerIndex() {
+        return world.getTriggerIndex();
+    }
+
+    /**
+     * Повертає регіони симуляції рівня.
+     *
+     * @return регіони симуляції
+     */
+    @Override
+    public SimulationRegions getSimulationRegions() {
+        return world.getSimulationRegions();
+    }
+
+    @Override
+    public LevelWorld getWorld() {
+        return world;
+    }
+
+    @Override
+    public LevelWorld createWorld() {
+        return new LevelWorld(levelData, tiles);
+    }
+
+    /**
+     * @return точка появи гравця з шару "Level" або null
+     */
+    @Override
+    public Vector2 getSpawnPoint() {
+        return levelData.hasSpawn() ? new Vector2(levelData.getSpawnX(), levelData.getSpawnY()) : null;
+    }
+
+    /**
+     * @return зона фінішу з шару "Level" або null
+     */
+    @Override
+    public Rectangle getExitBounds() {
+        return levelData.getExit();
     }
 
     /**
@@ -184,18 +378,8 @@ public class TiledGameMap extends GameMap {
      * @return тип плитки або null, якщо не знайдено
      */
     @Override
-    public TileTyped getTileTypeByCoordinate(int layer, int col, int row) {
-        TiledMapTileLayer.Cell cell = ((TiledMapTileLayer) tiledMap.getLayers().get(layer)).getCell(col, row);
-
-        if (cell != null) {
-            TiledMapTile tile = cell.getTile();
-
-            if (tile != null) {
-                int id = tile.getId();
-                return TileTyped.getTileTypeById(id);
-            }
-        }
-        return null;
+    public TileKind getTileTypeByCoordinate(int layer, int col, int row) {
+        return tileGrid.getTileType(layer, col, row);
     }
 
     /**
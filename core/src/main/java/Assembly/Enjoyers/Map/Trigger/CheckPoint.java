@@ -0,0 +1,32 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Чекпоінт: при вході гравця стає новою точкою респавну.
+ */
+public class CheckPoint implements Trigger {
+    private final Rectangle bounds;
+
+    /**
+     * Створює чекпоінт на місці тайла.
+     *
+     * @param x      координата X лівого нижнього кута
+     * @param y      координата Y лівого нижнього кута
+     * @param width  ширина
+     * @param height висота
+     */
+    public CheckPoint(float x, float y, float width, float height) {
+        this.bounds = new Rectangle(x, y, width, height);
+    }
+
+    @Override
+    public Rectangle getTriggerBounds() {
+        return bounds;
+    }
+
+    @Override
+    public TriggerType getTriggerType() {
+        return TriggerType.CHECK_POINT;
+    }
+}
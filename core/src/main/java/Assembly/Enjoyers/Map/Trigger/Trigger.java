@@ -0,0 +1,20 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Тригерна зона рівня: область, вхід у яку, перебування в ній та вихід з неї
+ * повідомляються через {@link TriggerListener}. Межі зони не змінюються після реєстрації
+ * в {@link TriggerIndex}.
+ */
+public interface Trigger {
+    /**
+     * @return межі тригерної зони
+     */
+    Rectangle getTriggerBounds();
+
+    /**
+     * @return тип тригерної зони
+     */
+    TriggerType getTriggerType();
+}
@@ -0,0 +1,94 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Інтервальний індекс тригерних зон рівня (sweep and prune по осі X).
+ * Зони зберігаються відсортованими за лівою межею, тож запит бінарним пошуком відсікає
+ * все праворуч від гравця і переглядає лише зони, чия ліва межа не далі найширшої зони
+ * ліворуч від нього. Вартість кроку залежить від кількості зон поруч, а не від їх загальної кількості.
+ * <p>
+ * Індекс пам'ятає, в яких зонах гравець був на попередньому кроці, і на основі цього
+ * формує події входу, перебування та виходу.
+ */
+public class TriggerIndex {
+    private final List<Trigger> triggers = new ArrayList<>();
+    private float maxWidth;
+
+    private List<Trigger> inside = new ArrayList<>();
+    private List<Trigger> wasInside = new ArrayList<>();
+
+    /**
+     * Реєструє тригерну зону, зберігаючи сортування за лівою межею.
+     *
+     * @param trigger тригерна зона
+     */
+    public void add(Trigger trigger) {
+        Rectangle bounds = trigger.getTriggerBounds();
+        int index = upperBound(bounds.x);
+        triggers.add(index, trigger);
+        maxWidth = Math.max(maxWidth, bounds.width);
+    }
+
+    /**
+     * Визначає зони, які перетинає {@code actor}, і повідомляє слухача про вхід, перебування
+     * та вихід відносно попереднього виклику.
+     *
+     * @param actor    хитбокс гравця
+     * @param listener слухач подій
+     */
+    public void update(Rectangle actor, TriggerListener listener) {
+        List<Trigger> previous = inside;
+        inside = wasInside;
+        wasInside = previous;
+        inside.clear();
+
+        int end = upperBound(actor.x + actor.width);
+        float minX = actor.x - maxWidth;
+        for (int i = end - 1; i >= 0; i--) {
+            Trigger trigger = triggers.get(i);
+            Rectangle bounds = trigger.getTriggerBounds();
+            if (bounds.x < minX) break;
+            if (!actor.overlaps(bounds)) continue;
+
+            inside.add(trigger);
+            listener.onTrigger(trigger, contains(wasInside, trigger) ? TriggerPhase.STAY : TriggerPhase.ENTER);
+        }
+
+        for (int i = 0; i < wasInside.size(); i++) {
+            Trigger trigger = wasInside.get(i);
+            if (!contains(inside, trigger))
+                listener.onTrigger(trigger, TriggerPhase.EXIT);
+        }
+    }
+
+    /**
+     * @return кількість зареєстрованих зон
+     */
+    public int size() {
+        return triggers.size();
+    }
+
+    /**
+     * Індекс першої зони, ліва межа якої більша за {@code x}.
+     */
+    private int upperBound(float x) {
+        int low = 0, high = triggers.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (triggers.get(mid).getTriggerBounds().x <= x) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static boolean contains(List<Trigger> list, Trigger trigger) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == trigger) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+/**
+ * Отримує події входу, перебування та виходу гравця з тригерних зон.
+ */
+public interface TriggerListener {
+    /**
+     * Викликається для кожної зони, стан якої змінився або зберігся за крок симуляції.
+     *
+     * @param trigger тригерна зона
+     * @param phase   фаза взаємодії
+     */
+    void onTrigger(Trigger trigger, TriggerPhase phase);
+}
@@ -0,0 +1,13 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+/**
+ * Фаза взаємодії гравця з тригерною зоною за один крок симуляції.
+ */
+public enum TriggerPhase {
+    /** Гравець щойно увійшов у зону. */
+    ENTER,
+    /** Гравець залишається в зоні. */
+    STAY,
+    /** Гравець щойно вийшов із зони. */
+    EXIT
+}
@@ -0,0 +1,13 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+/**
+ * Типи тригерних зон рівня. Визначає, як гра реагує на вхід гравця в зону.
+ */
+public enum TriggerType {
+    /** Трамплін, що підкидає гравця вгору. */
+    JUMP_PAD,
+    /** Фініш рівня. */
+    LEVEL_EXIT,
+    /** Чекпоінт, що змінює точку респавну. */
+    CHECK_POINT
+}
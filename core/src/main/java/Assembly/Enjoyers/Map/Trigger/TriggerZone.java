@@ -0,0 +1,30 @@
+package Assembly.Enjoyers.Map.Trigger;
+
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Проста тригерна зона без власної логіки (фініш рівня, майбутні зони вітру чи слизу).
+ */
+public class TriggerZone implements Trigger {
+    private final Rectangle bounds;
+    private final TriggerType type;
+
+    /**
+     * @param bounds межі зони
+     * @param type   тип зони
+     */
+    public TriggerZone(Rectangle bounds, TriggerType type) {
+        this.bounds = bounds;
+        this.type = type;
+    }
+
+    @Override
+    public Rectangle getTriggerBounds() {
+        return bounds;
+    }
+
+    @Override
+    public TriggerType getTriggerType() {
+        return type;
+    }
+}
@@ -0,0 +1,166 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Керує тілами загиблого гравця.
+ * <p>
+ * У звичайному режимі на рівні лежить лише останнє тіло. У режимі збереження тіл кожна смерть
+ * залишає своє тіло, як історію смертей. Об'єкти тіл беруться з пулу, тож смерть не виділяє пам'ять.
+ * Тіло падає, доки не торкнеться статичної геометрії (запит до просторової сітки), після чого
+ * «засинає» і більше не оновлюється. Тіло, що випало за нижню межу мапи, повертається в пул.
+ */
+public class CorpseManager {
+    /** Швидкість падіння тіла (пікселів за секунду). */
+    private static final float FALL_SPEED = 600f;
+    /** Площина знищення: тіло, що повністю опинилось нижче, вилучається. */
+    private static final float KILL_PLANE_Y = 0f;
+    private static final float HITBOX_X_OFFSET = 55f;
+    private static final float HITBOX_Y_OFFSET = 22f;
+
+    /**
+     * Одне тіло на рівні.
+     */
+    private static class Corpse implements Pool.Poolable {
+        float x, y, prevY;
+        boolean flipX;
+        boolean sleeping;
+
+        @Override
+        public void reset() {
+            x = y = prevY = 0;
+            flipX = false;
+            sleeping = false;
+        }
+    }
+
+    private final Pool<Corpse> pool = new Pool<>() {
+        @Override
+        protected Corpse newObject() {
+            return new Corpse();
+        }
+    };
+    private final Array<Corpse> corpses = new Array<>(false, 16);
+    private final TextureRegion region;
+    private final float width;
+    private final float height;
+    /** Хитбокс тіла для перевірки землі, перевикористовується між тілами. */
+    private final Rectangle hitBox = new Rectangle();
+    private boolean persistent;
+    private int awakeCount;
+
+    /**
+     * @param region     текстура тіла
+     * @param width      ширина тіла у пікселях
+     * @param height     висота тіла у пікселях
+     * @param persistent чи зберігати тіла всіх смертей
+     */
+    public CorpseManager(TextureRegion region, float width, float height, boolean persistent) {
+        this.region = region;
+        this.width = width;
+        this.height = height;
+        this.persistent = persistent;
+    }
+
+    /**
+     * Залишає тіло в заданій позиції. У звичайному режимі попереднє тіло прибирається.
+     *
+     * @param x     координата X спрайта
+     * @param y     координата Y спрайта
+     * @param flipX чи віддзеркалити тіло по горизонталі
+     */
+    public void spawn(float x, float y, boolean flipX) {
+        if (!persistent) clear();
+
+        Corpse corpse = pool.obtain();
+        corpse.x = x;
+        corpse.y = y;
+        corpse.prevY = y;
+        corpse.flipX = flipX;
+        corpses.add(corpse);
+        awakeCount++;
+    }
+
+    /**
+     * Просуває падіння тіл, що ще не лежать. Якщо всі тіла сплять, метод нічого не робить.
+     *
+     * @param collisionGrid просторова сітка статичних колізій
+     * @param delta         тривалість кроку симуляції
+     */
+    public void update(SpatialGrid collisionGrid, float delta) {
+        if (awakeCount == 0) return;
+
+        for (int i = corpses.size - 1; i >= 0; i--) {
+            Corpse corpse = corpses.get(i);
+            if (corpse.sleeping) continue;
+
+            corpse.prevY = corpse.y;
+            setHitBox(corpse);
+            if (collisionGrid.overlaps(hitBox)) {
+                corpse.sleeping = true;
+                awakeCount--;
+                continue;
+            }
+
+            corpse.y -= FALL_SPEED * delta;
+            if (corpse.y + height < KILL_PLANE_Y) {
+                corpses.removeIndex(i);
+                pool.free(corpse);
+                awakeCount--;
+            }
+        }
+    }
+
+    /**
+     * Малює тіла, що потрапляють в область видимості, в інтерпольованій позиції.
+     *
+     * @param batch пакет малювання
+     * @param alpha частка кроку, що минула після останнього кроку (0..1)
+     * @param view  видима область світу
+     */
+    public void draw(SpriteBatch batch, float alpha, Rectangle view) {
+        for (int i = 0; i < corpses.size; i++) {
+            Corpse corpse = corpses.get(i);
+            float y = corpse.sleeping ? corpse.y : corpse.prevY + (corpse.y - corpse.prevY) * alpha;
+            if (corpse.x > view.x + view.width || corpse.x + width < view.x
+                || y > view.y + view.height || y + height < view.y) continue;
+
+            if (corpse.flipX)
+                batch.draw(region, corpse.x + width, y, -width, height);
+            else
+                batch.draw(region, corpse.x, y, width, height);
+        }
+    }
+
+    /**
+     * Прибирає всі тіла з рівня, повертаючи їх у пул.
+     */
+    public void clear() {
+        pool.freeAll(corpses);
+        corpses.clear();
+        awakeCount = 0;
+    }
+
+    /**
+     * Вмикає або вимикає режим збереження тіл усіх смертей.
+     */
+    public void setPersistent(boolean persistent) {
+        this.persistent = persistent;
+    }
+
+    /**
+     * @return кількість тіл на рівні
+     */
+    public int size() {
+        return corpses.size;
+    }
+
+    private void setHitBox(Corpse corpse) {
+        hitBox.set(corpse.x + HITBOX_X_OFFSET, corpse.y, width - 1.7f * HITBOX_X_OFFSET, height - 2.2f * HITBOX_Y_OFFSET);
+    }
+}
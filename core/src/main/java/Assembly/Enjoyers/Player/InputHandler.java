@@ -4,6 +4,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Preferences;
 
+import java.util.Arrays;
+
 import static com.badlogic.gdx.Gdx.input;
 
 /**
@@ -13,6 +15,9 @@ import static com.badlogic.gdx.Gdx.input;
  */
 public class InputHandler {
     private static int up, down, left, right, jump, dash, climb;
+    /** Натискання, зафіксовані між кроками симуляції, індексовані за {@link KeyBinds#ordinal()}. */
+    private static final boolean[] latched = new boolean[KeyBinds.values().length];
+    private static final KeyBinds[] keyBinds = KeyBinds.values();
 
     static {
         update();
@@ -67,12 +72,53 @@ public class InputHandler {
         }
     }
 
+    /**
+     * Перевіряє, чи була натиснута відповідна клавіша або кнопка з моменту попереднього кроку симуляції.
+     * Значення фіксується методом {@link #latchJustPressed()} і скидається {@link #consumeJustPressed()},
+     * тож натискання не губиться в кадрах без кроку і не спрацьовує двічі в кадрі з кількома кроками.
+     * @param key тип прив'язки з KeyBinds
+     * @return true, якщо клавіша/кнопка була натиснута, інакше false
+     */
+    public static boolean getButtonJustPressed(KeyBinds key){
+        return latched[key.ordinal()];
+    }
+
+    /**
+     * Заповнює знімок керування на поточний крок симуляції.
+     * @param out знімок, що перезаписується
+     */
+    public static void snapshot(PlayerInput out){
+        out.up = getButtonPressed(KeyBinds.UP);
+        out.down = getButtonPressed(KeyBinds.DOWN);
+        out.left = getButtonPressed(KeyBinds.LEFT);
+        out.right = getButtonPressed(KeyBinds.RIGHT);
+        out.climb = getButtonPressed(KeyBinds.CLIMB);
+        out.jump = getButtonJustPressed(KeyBinds.JUMP);
+        out.dash = getButtonJustPressed(KeyBinds.DASH);
+    }
+
+    /**
+     * Запам'ятовує клавіші, натиснуті в поточному кадрі. Викликається раз на кадр рендеру.
+     */
+    public static void latchJustPressed(){
+        for (KeyBinds key : keyBinds) {
+            if (isJustPressed(key)) latched[key.ordinal()] = true;
+        }
+    }
+
+    /**
+     * Скидає зафіксовані натискання після того, як крок симуляції їх обробив.
+     */
+    public static void consumeJustPressed(){
+        Arrays.fill(latched, false);
+    }
+
     /**
      * Перевіряє, чи була натиснута відповідна клавіша або кнопка саме в поточному кадрі.
      * @param key тип прив'язки з KeyBinds
      * @return true, якщо клавіша/кнопка була натиснута цього кадру, інакше false
      */
-    public static boolean getButtonJustPressed(KeyBinds key){
+    private static boolean isJustPressed(KeyBinds key){
         int buttonCode = getButtonCode(key);
         if(buttonCode >= 0) return input.isKeyJustPressed(buttonCode);
         else {
@@ -16,6 +16,16 @@ import java.util.List;
  * Зберігає анімації для кожного стану {@link PlayerState} та повертає відповідні кадри.
  */
 public class PlayerAnimationManager {
+    /** Кількість кадрів і тривалість кадру анімації смерті. */
+    private static final int DYING_FRAMES = 7;
+    private static final float DYING_FRAME_DURATION = 0.2f;
+    /**
+     * Тривалість анімації смерті — це й затримка респавну у фізиці, тож вона доступна
+     * без завантаження атласу (для симуляції без вікна). Обчислюється так само, як
+     * {@link Animation#getAnimationDuration()}.
+     */
+    public static final float DYING_DURATION = DYING_FRAMES * DYING_FRAME_DURATION;
+
     private final EnumMap<PlayerState, Animation<TextureRegion>> animations = new EnumMap<>(PlayerState.class);
     private float stateTime = 0;
     private final TextureAtlas atlas;
@@ -34,7 +44,7 @@ public class PlayerAnimationManager {
         animations.put(PlayerState.WALL_CLIMBING, loadAnimation("adventurer-ladder-climb-", 4, 0.2f));
         animations.put(PlayerState.WALL_SLIDING, loadAnimation("adventurer-wall-slide-", 2, 0.2f));
         animations.put(PlayerState.WALL_GRABBING, loadAnimation("adventurer-crnr-grb-", 4, 0.3f));
-        animations.put(PlayerState.DYING, loadAnimation("adventurer-die-", 7, 0.2f));
+        animations.put(PlayerState.DYING, loadAnimation("adventurer-die-", DYING_FRAMES, DYING_FRAME_DURATION));
     }
 
     /**
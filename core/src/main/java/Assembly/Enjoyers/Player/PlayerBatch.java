@@ -0,0 +1,483 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.Contacts;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.SweptAabb;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static Assembly.Enjoyers.Player.PlayerPhysics.*;
+
+/**
+ * Пакетна симуляція багатьох тіл гравця (привиди, боти, стрес-тести) у вигляді структури масивів:
+ * позиції, швидкості, деш і стаміна лежать у примітивних масивах, а крок виконується кількома
+ * щільними циклами по всіх тілах замість викликів {@link PlayerPhysics} для кожного тіла окремо.
+ * <p>
+ * Правила ті самі, що й у {@link PlayerPhysics}, з тим самим порядком дій і тією ж арифметикою:
+ * перезапуск і смерть від небезпек {@link HazardIndex} на початку кроку з затримкою респавну, деш,
+ * стаміна, ковзання, відштовхування від стіни та притискання до поверхні. Тож на мапі без динамічних
+ * тіл пакет дає побітово той самий стан, що й {@link PlayerPhysics} для кожного тіла окремо.
+ * Відмінність одна: колізії перевіряються лише зі статичною маскою мапи ({@link SolidityGrid}),
+ * тому рухомі платформи, crumble-блоки та тригери (трампліни, чекпоінти) на тіла пакета не діють.
+ * Тіла не взаємодіють між собою, тому крок можна розділити між ядрами
+ * ({@link #step(SolidityGrid, HazardIndex, float, ForkJoinPool)}) з побітово тим самим результатом.
+ * <p>
+ * Обмеження: правила руху тут повторюють {@link PlayerPhysics} вручну, а не викликають його,
+ * і не враховують динамічних тіл, рухомих платформ і тригерних зон. Тому пакет не підходить
+ * для ігрового процесу і не використовується ні грою, ні перевіркою записів проходження
+ * (для них є {@link RunSimulation}); він призначений лише для бенчмарків і стрес-тестів фізики.
+ * Збіг з {@link PlayerPhysics} на статичній мапі перевіряє {@code PlayerBatchTest}: зміна правил
+ * у {@link PlayerPhysics} без відповідної зміни тут має ламати цей тест.
+ */
+public class PlayerBatch {
+    /** Кількість тіл, які обробляє одна задача fork-join. */
+    private static final int CHUNK_SIZE = 256;
+
+    private static final byte FACING_RIGHT = 1, ON_GROUND = 1 << 1, DASHING = 1 << 2, LAST_WALL_RIGHT = 1 << 3,
+        DEAD = 1 << 4, INACTIVE = 1 << 5;
+
+    private final float hitBoxWidth;
+    private final float hitBoxHeight;
+    private final float deathDelay;
+
+    private int size;
+    private float[] x, y;
+    private float[] respawnX, respawnY;
+    private float[] velocityX, velocityY;
+    private float[] dashXVelocity, dashYVelocity;
+    private float[] stamina;
+    private float[] deathTimer;
+    private float[] moveX;
+    private int[] dashCount;
+    private byte[] flags;
+    private byte[] inputs;
+
+    /**
+     * Створює порожній пакет тіл.
+     *
+     * @param width      ширина спрайта гравця (як у {@link PlayerBody})
+     * @param height     висота спрайта гравця
+     * @param deathDelay час від смерті до респавну в секундах (як у {@link PlayerPhysics})
+     * @param capacity   початкова місткість
+     */
+    public PlayerBatch(float width, float height, float deathDelay, int capacity) {
+        this.hitBoxWidth = width - 2 * PlayerBody.HITBOX_X_OFFSET;
+        this.hitBoxHeight = height - PlayerBody.HITBOX_Y_OFFSET;
+        this.deathDelay = deathDelay;
+        allocate(Math.max(capacity, 1));
+    }
+
+    /**
+     * Додає тіло в точці респавну.
+     *
+     * @return індекс тіла
+     */
+    public int add(float respawnX, float respawnY) {
+        if (size == x.length) allocate(size * 2);
+
+        int i = size++;
+        this.x[i] = this.respawnX[i] = respawnX;
+        this.y[i] = this.respawnY[i] = respawnY;
+        stamina[i] = MAX_STAMINA;
+        dashCount[i] = MAX_DASH_COUNT;
+        flags[i] = FACING_RIGHT;
+        return i;
+    }
+
+    /**
+     * Задає керування тіла на наступний крок.
+     */
+    public void setInput(int index, PlayerInput input) {
+        inputs[index] = (byte) input.toBits();
+    }
+
+    /**
+     * Задає керування тіла на наступний крок у вигляді бітів {@link PlayerInput#toBits()}.
+     */
+    public void setInputBits(int index, int bits) {
+        inputs[index] = (byte) bits;
+    }
+
+    /**
+     * Виконує один крок симуляції всіх тіл у поточному потоці.
+     *
+     * @param grid    статична маска мапи
+     * @param hazards індекс небезпек рівня
+     * @param delta   тривалість кроку в секундах
+     */
+    public void step(SolidityGrid grid, HazardIndex hazards, float delta) {
+        stepRange(grid, hazards, delta, 0, size);
+    }
+
+    /**
+     * Виконує один крок симуляції всіх тіл, розділивши їх між потоками пулу.
+     * Результат побітово збігається з {@link #step(SolidityGrid, HazardIndex, float)}.
+     *
+     * @param grid    статична маска мапи
+     * @param hazards індекс небезпек рівня
+     * @param delta   тривалість кроку в секундах
+     * @param pool    пул потоків
+     */
+    public void step(SolidityGrid grid, HazardIndex hazards, float delta, ForkJoinPool pool) {
+        pool.invoke(new StepTask(grid, hazards, delta, 0, size));
+    }
+
+    /**
+     * Крок для тіл [{@code from}, {@code to}): спершу цикл перезапуску та смерті, потім суто арифметичний
+     * цикл інтеграції швидкостей, потім цикл контактів і стрибків, потім цикл руху з колізіями.
+     * Тіла, що загинули або чекають на респавн, позначаються {@link #INACTIVE} і решту кроку пропускають.
+     */
+    private void stepRange(SolidityGrid grid, HazardIndex hazards, float delta, int from, int to) {
+        Rectangle box = new Rectangle();
+        Rectangle probe = new Rectangle();
+        Contacts contacts = new Contacts();
+        SweptAabb.Hit hit = new SweptAabb.Hit();
+
+        handleDeath(hazards, box, delta, from, to);
+        integrate(delta, from, to);
+        sense(grid, box, contacts, delta, from, to);
+        move(grid, box, probe, hit, delta, from, to);
+    }
+
+    /**
+     * Перезапуск, дотик до небезпеки, очікування та респавн, як у {@link PlayerPhysics}.
+     */
+    private void handleDeath(HazardIndex hazards, Rectangle box, float delta, int from, int to) {
+        for (int i = from; i < to; i++) {
+            flags[i] &= ~INACTIVE;
+            if ((inputs[i] & PlayerInput.RESTART) != 0) kill(i);
+
+            if ((flags[i] & DEAD) != 0) {
+                velocityY[i] = 0;
+                velocityX[i] = 0;
+                deathTimer[i] -= delta;
+                if (deathTimer[i] <= 0f) {
+                    x[i] = respawnX[i];
+                    y[i] = respawnY[i];
+                    flags[i] &= ~DEAD;
+                }
+                flags[i] |= INACTIVE;
+                continue;
+            }
+
+            box.set(x[i] + PlayerBody.HITBOX_X_OFFSET, y[i], hitBoxWidth, hitBoxHeight);
+            if (hazards.overlapsLethal(box)) {
+                kill(i);
+                flags[i] |= INACTIVE;
+            }
+        }
+    }
+
+    private void kill(int i) {
+        flags[i] &= ~DASHING;
+        dashXVelocity[i] = 0;
+        dashYVelocity[i] = 0;
+        flags[i] |= DEAD;
+        deathTimer[i] = deathDelay;
+    }
+
+    /**
+     * Рух з клавіш, деш і гравітація. Без звернень до мапи.
+     */
+    private void integrate(float delta, int from, int to) {
+        float step = MOVE_SPEED * delta;
+        float decay = (float) StrictMath.pow(DASH_DECAY_RAW, delta * 60);
+        float gravity = GRAVITY * delta;
+
+        for (int i = from; i < to; i++) {
+            if ((flags[i] & INACTIVE) != 0) continue;
+            int bits = inputs[i];
+            boolean left = (bits & PlayerInput.LEFT) != 0, right = (bits & PlayerInput.RIGHT) != 0;
+            float move = 0;
+            if (left) {
+                move -= step;
+                flags[i] &= ~FACING_RIGHT;
+            }
+            if (right) {
+                move += step;
+                flags[i] |= FACING_RIGHT;
+            }
+            moveX[i] = move;
+
+            if ((flags[i] & DASHING) != 0) {
+                dashXVelocity[i] *= decay;
+                dashYVelocity[i] *= decay;
+                if (Math.abs(dashXVelocity[i]) < DASH_MIN_FORCE && Math.abs(dashYVelocity[i]) < DASH_MIN_FORCE) {
+                    dashXVelocity[i] = 0;
+                    dashYVelocity[i] = 0;
+                    flags[i] &= ~DASHING;
+                }
+            } else if ((bits & PlayerInput.DASH) != 0 && dashCount[i] > 0) {
+                startDash(i, bits);
+            }
+
+            if ((flags[i] & DASHING) == 0 || (dashXVelocity[i] == 0 && dashYVelocity[i] < 0))
+                velocityY[i] += gravity;
+            else
+                velocityY[i] = 0;
+        }
+    }
+
+    private void startDash(int i, int bits) {
+        float dx = 0, dy = 0;
+        if ((bits & PlayerInput.RIGHT) != 0) dx = 1;
+        if ((bits & PlayerInput.LEFT) != 0) dx = -1;
+        if ((bits & PlayerInput.UP) != 0) dy = 1f;
+        if ((bits & PlayerInput.DOWN) != 0) dy = -1f;
+        if (dx == 0 && dy == 0)
+            dx = (flags[i] & FACING_RIGHT) != 0 ? 1 : -1;
+
+        float len = (float) StrictMath.sqrt(dx * dx + dy * dy);
+        dx /= len;
+        dy /= len;
+
+        dashXVelocity[i] = dx * DASH_FORCE;
+        dashYVelocity[i] = (dy * 3 / 4) * DASH_FORCE;
+        if (dashYVelocity[i] == 0)
+            dashXVelocity[i] *= (float) 3 / 4;
+        flags[i] |= DASHING;
+        dashCount[i]--;
+    }
+
+    /**
+     * Контакти з мапою, стрибок з землі, лазіння, ковзання та відштовхування від стіни.
+     */
+    private void sense(SolidityGrid grid, Rectangle box, Contacts contacts, float delta, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((flags[i] & INACTIVE) != 0) continue;
+            int bits = inputs[i];
+            box.set(x[i] + PlayerBody.HITBOX_X_OFFSET, y[i], hitBoxWidth, hitBoxHeight);
+            contacts.clear();
+            grid.senseContacts(box, contacts);
+
+            if (contacts.ground) {
+                flags[i] |= ON_GROUND;
+                dashCount[i] = MAX_DASH_COUNT;
+                stamina[i] = MAX_STAMINA;
+                if ((bits & PlayerInput.JUMP) != 0) velocityY[i] = JUMP_FORCE;
+            } else {
+                flags[i] &= ~ON_GROUND;
+            }
+
+            if (contacts.wall()) wallInteraction(i, bits, contacts, delta);
+        }
+    }
+
+    private void wallInteraction(int i, int bits, Contacts contacts, float delta) {
+        boolean up = (bits & PlayerInput.UP) != 0, down = (bits & PlayerInput.DOWN) != 0;
+        boolean jump = (bits & PlayerInput.JUMP) != 0;
+
+        if ((bits & PlayerInput.CLIMB) != 0 && stamina[i] > 0) {
+            if (velocityY[i] <= WALL_CLIMB_SPEED) {
+                if (up) velocityY[i] = WALL_CLIMB_SPEED;
+                else if (down) velocityY[i] = -WALL_CLIMB_SPEED;
+                else if (velocityY[i] < 0) velocityY[i] = 0;
+            }
+            if (up && jump) {
+                velocityY[i] = JUMP_FORCE;
+                stamina[i] -= STAMINA_DRAIN;
+            }
+            stamina[i] -= STAMINA_DRAIN * delta;
+            if (stamina[i] < 0) stamina[i] = 0;
+        } else if (down) {
+            velocityY[i] = 0.75f * GRAVITY;
+        } else if (velocityY[i] < WALL_SLIDE_SPEED) {
+            velocityY[i] = WALL_SLIDE_SPEED;
+        }
+
+        if (jump && !up && stamina[i] > 0) {
+            boolean lastWallRight = (flags[i] & LAST_WALL_RIGHT) != 0;
+            if (contacts.right) {
+                if (lastWallRight) stamina[i] -= STAMINA_DRAIN;
+                velocityX[i] = -WALL_JUMP_FORCE_X;
+                velocityY[i] = JUMP_FORCE;
+                flags[i] |= LAST_WALL_RIGHT;
+            } else if (contacts.left) {
+                if (!lastWallRight) stamina[i] -= STAMINA_DRAIN;
+                velocityX[i] = WALL_JUMP_FORCE_X;
+                velocityY[i] = JUMP_FORCE;
+                flags[i] &= ~LAST_WALL_RIGHT;
+            }
+        }
+    }
+
+    /**
+     * Рух з неперервною перевіркою зіткнень, ковзанням уздовж поверхонь і притисканням до поверхні,
+     * як у {@link PlayerPhysics}: позиція тіла оновлюється першою, а хитбокс обчислюється з неї,
+     * тож округлення збігаються побітово.
+     */
+    private void move(SolidityGrid grid, Rectangle box, Rectangle probe, SweptAabb.Hit hit, float delta, int from, int to) {
+        float wallJumpDecay = (float) StrictMath.pow(WALL_JUMP_DECAY_RAW, delta * 60);
+        for (int i = from; i < to; i++) {
+            if ((flags[i] & INACTIVE) != 0) continue;
+            boolean wallJumpImpulse = Math.abs(velocityX[i]) > 600;
+            float dx = wallJumpImpulse ? (velocityX[i] + dashXVelocity[i]) * delta : moveX[i] + dashXVelocity[i] * delta;
+            float dy = (velocityY[i] + dashYVelocity[i]) * delta;
+            boolean stickToGround = (flags[i] & ON_GROUND) != 0 && dx != 0 && dy <= 0;
+            float stickDistance = Math.abs(dx) + 1;
+            box.set(x[i] + PlayerBody.HITBOX_X_OFFSET, y[i], hitBoxWidth, hitBoxHeight);
+
+            for (int iteration = 0; iteration < MAX_SLIDE_ITERATIONS && (dx != 0 || dy != 0); iteration++) {
+                hit.reset();
+                grid.sweepSolid(box, dx, dy, hit);
+                x[i] += dx * hit.time;
+                y[i] += dy * hit.time;
+                box.setPosition(x[i] + PlayerBody.HITBOX_X_OFFSET, y[i]);
+                if (!hit.isHit()) break;
+
+                Rectangle bound = hit.bound;
+                float remaining = 1f - hit.time;
+                if (hit.normalX != 0) {
+                    if (hit.normalX < 0)
+                        x[i] = bound.x - box.width - PlayerBody.HITBOX_X_OFFSET;
+                    else
+                        x[i] = bound.x + bound.width - PlayerBody.HITBOX_X_OFFSET;
+                    velocityX[i] = 0;
+                    dashXVelocity[i] = 0;
+                    dx = 0;
+                    dy *= remaining;
+                } else {
+                    if (hit.normalY < 0) {
+                        y[i] = bound.y - box.height;
+                    } else {
+                        y[i] = bound.y + bound.height;
+                        flags[i] |= ON_GROUND;
+                    }
+                    velocityY[i] = 0;
+                    dashYVelocity[i] = 0;
+                    dy = 0;
+                    dx *= remaining;
+                }
+                box.setPosition(x[i] + PlayerBody.HITBOX_X_OFFSET, y[i]);
+            }
+
+            if (stickToGround) {
+                probe.set(box.x, box.y - 1, box.width, 2);
+                if (!grid.overlapsSolid(probe)) {
+                    hit.reset();
+                    grid.sweepSolid(box, 0, -stickDistance, hit);
+                    if (hit.isHit() && hit.normalY > 0) {
+                        y[i] = hit.bound.y + hit.bound.height;
+                        flags[i] |= ON_GROUND;
+                    }
+                }
+            }
+
+            if (wallJumpImpulse) {
+                velocityX[i] *= wallJumpDecay;
+                if (Math.abs(velocityX[i]) < 10f) velocityX[i] = 0;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        if (x != null && capacity <= x.length) return;
+        x = grow(x, capacity);
+        y = grow(y, capacity);
+        respawnX = grow(respawnX, capacity);
+        respawnY = grow(respawnY, capacity);
+        velocityX = grow(velocityX, capacity);
+        velocityY = grow(velocityY, capacity);
+        dashXVelocity = grow(dashXVelocity, capacity);
+        dashYVelocity = grow(dashYVelocity, capacity);
+        stamina = grow(stamina, capacity);
+        deathTimer = grow(deathTimer, capacity);
+        moveX = grow(moveX, capacity);
+        dashCount = dashCount == null ? new int[capacity] : Arrays.copyOf(dashCount, capacity);
+        flags = flags == null ? new byte[capacity] : Arrays.copyOf(flags, capacity);
+        inputs = inputs == null ? new byte[capacity] : Arrays.copyOf(inputs, capacity);
+    }
+
+    private static float[] grow(float[] array, int capacity) {
+        return array == null ? new float[capacity] : Arrays.copyOf(array, capacity);
+    }
+
+    /**
+     * @return кількість тіл
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return координата X спрайта тіла
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * @return координата Y спрайта тіла
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @return true, якщо тіло стоїть на землі
+     */
+    public boolean isOnGround(int index) {
+        return (flags[index] & ON_GROUND) != 0;
+    }
+
+    /**
+     * @return true, якщо тіло мертве і чекає на респавн
+     */
+    public boolean isDead(int index) {
+        return (flags[index] & DEAD) != 0;
+    }
+
+    /**
+     * Хеш позицій, швидкостей, деша і стаміни всіх тіл (для перевірки, що паралельний крок
+     * дав той самий результат, і для порівняння з {@link PlayerPhysics}).
+     *
+     * @return хеш стану пакета
+     */
+    public long stateHash() {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < size; i++) {
+            hash = (hash ^ Float.floatToRawIntBits(x[i])) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(y[i])) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(velocityX[i])) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(velocityY[i])) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(dashXVelocity[i])) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(dashYVelocity[i])) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(stamina[i])) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Задача fork-join, що ділить діапазон тіл навпіл, доки він не стане меншим за {@link #CHUNK_SIZE}.
+     */
+    private final class StepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final SolidityGrid grid;
+        private final HazardIndex hazards;
+        private final float delta;
+        private final int from, to;
+
+        StepTask(SolidityGrid grid, HazardIndex hazards, float delta, int from, int to) {
+            this.grid = grid;
+            this.hazards = hazards;
+            this.delta = delta;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                stepRange(grid, hazards, delta, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new StepTask(grid, hazards, delta, from, mid), new StepTask(grid, hazards, delta, mid, to));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.Contacts;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Фізичний стан гравця: позиція, швидкості, деш, стаміна, контакти та смерть.
+ * Не залежить від графіки, звуку чи введення, тому може симулюватися без вікна
+ * (див. {@link PlayerPhysics}).
+ */
+public class PlayerBody {
+    static final float HITBOX_X_OFFSET = 55f;
+    static final float HITBOX_Y_OFFSET = 22f;
+
+    final float width;
+    final float height;
+    final Rectangle hitBox = new Rectangle();
+    /** Контакти хитбоксу на початку кроку (один запит до світу колізій за крок). */
+    final Contacts contacts = new Contacts();
+
+    float x, y;
+    float respawnX, respawnY;
+    float velocityX, velocityY;
+    float dashXVelocity, dashYVelocity;
+    int dashCount = PlayerPhysics.MAX_DASH_COUNT;
+    float stamina = PlayerPhysics.MAX_STAMINA;
+    boolean facingRight = true;
+    boolean onGround, prevOnGround, touchingWall, lastWallRight;
+    boolean isDashing, isDead;
+    float deathTimer;
+    PlayerState state = PlayerState.IDLE;
+    /** Динамічне тіло під ногами на початку кроку та його позиція до руху платформ. */
+    Rectangle ground;
+    float groundX, groundY;
+
+    /**
+     * Створює тіло гравця в точці респавну.
+     *
+     * @param width    ширина спрайта гравця
+     * @param height   висота спрайта гравця
+     * @param respawnX координата X точки респавну
+     * @param respawnY координата Y точки респавну
+     */
+    public PlayerBody(float width, float height, float respawnX, float respawnY) {
+        this.width = width;
+        this.height = height;
+        this.respawnX = respawnX;
+        this.respawnY = respawnY;
+        this.x = respawnX;
+        this.y = respawnY;
+        updateHitBox();
+    }
+
+    /**
+     * Оновлює координати хитбоксу за позицією тіла.
+     */
+    void updateHitBox() {
+        hitBox.set(x + HITBOX_X_OFFSET, y, width - 2 * HITBOX_X_OFFSET, height - HITBOX_Y_OFFSET);
+    }
+
+    /**
+     * Змінює точку респавну.
+     */
+    public void setRespawnPoint(float x, float y) {
+        respawnX = x;
+        respawnY = y;
+    }
+
+    /**
+     * @return координата X спрайта
+     */
+    public float getX() {
+        return x;
+    }
+
+    /**
+     * @return координата Y спрайта
+     */
+    public float getY() {
+        return y;
+    }
+
+    /**
+     * @return хитбокс гравця (оновлюється на місці)
+     */
+    public Rectangle getHitBox() {
+        return hitBox;
+    }
+
+    /**
+     * @return горизонтальна швидкість
+     */
+    public float getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     * @return вертикальна швидкість
+     */
+    public float getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * @return залишок стаміни (0..100)
+     */
+    public float getStamina() {
+        return stamina;
+    }
+
+    /**
+     * @return поточний стан гравця
+     */
+    public PlayerState getState() {
+        return state;
+    }
+
+    /**
+     * @return чи дивиться гравець праворуч
+     */
+    public boolean isFacingRight() {
+        return facingRight;
+    }
+
+    /**
+     * @return чи стоїть гравець на землі
+     */
+    public boolean isOnGround() {
+        return onGround;
+    }
+
+    /**
+     * @return чи гравець мертвий і чекає на респавн
+     */
+    public boolean isDead() {
+        return isDead;
+    }
+}
@@ -0,0 +1,35 @@
+package Assembly.Enjoyers.Player;
+
+/**
+ * Події, що сталися з гравцем за один крок симуляції.
+ * Фізика лише записує їх, а звуки, анімації та лічильник смертей обробляє адаптер {@link Player}.
+ */
+public class PlayerEvents {
+    /** Гравець приземлився. */
+    public boolean landed;
+    /** Гравець стрибнув (із землі або від стіни). */
+    public boolean jumped;
+    /** Гравець почав деш. */
+    public boolean dashed;
+    /** Гравець загинув. */
+    public boolean died;
+    /** Гравець перезапустив спробу (смерть без повідомлення слухача). */
+    public boolean restarted;
+    /** Гравець відродився; тіло залишається в точці ({@link #corpseX}, {@link #corpseY}). */
+    public boolean respawned;
+    /** Координата X тіла, що залишилося після респавну. */
+    public float corpseX;
+    /** Координата Y тіла, що залишилося після респавну. */
+    public float corpseY;
+    /** Чи віддзеркалене тіло по горизонталі. */
+    public boolean corpseFlipX;
+    /** Гравця підкинув трамплін (записує {@link RunSimulation} після кроку фізики). */
+    public boolean jumpPadTriggered;
+
+    /**
+     * Скидає події перед новим кроком.
+     */
+    public void clear() {
+        landed = jumped = dashed = died = restarted = respawned = jumpPadTriggered = false;
+    }
+}
@@ -0,0 +1,61 @@
+package Assembly.Enjoyers.Player;
+
+/**
+ * Знімок керування гравця на один крок симуляції.
+ * Не залежить від Gdx: заповнюється з клавіатури через {@link InputHandler#snapshot(PlayerInput)}
+ * або вручну (тести, бенчмарки, програвання записів).
+ */
+public class PlayerInput {
+    static final int UP = 1, DOWN = 1 << 1, LEFT = 1 << 2, RIGHT = 1 << 3,
+        CLIMB = 1 << 4, JUMP = 1 << 5, DASH = 1 << 6, RESTART = 1 << 7;
+
+    /** Утримується рух угору. */
+    public boolean up;
+    /** Утримується рух униз. */
+    public boolean down;
+    /** Утримується рух уліво. */
+    public boolean left;
+    /** Утримується рух управо. */
+    public boolean right;
+    /** Утримується кнопка лазіння по стіні. */
+    public boolean climb;
+    /** Стрибок натиснуто з попереднього кроку. */
+    public boolean jump;
+    /** Деш натиснуто з попереднього кроку. */
+    public boolean dash;
+    /** Гравець перезапустив спробу з меню паузи. */
+    public boolean restart;
+
+    /**
+     * Скидає всі кнопки.
+     */
+    public void clear() {
+        up = down = left = right = climb = jump = dash = restart = false;
+    }
+
+    /**
+     * Пакує знімок у біти (для запису проходження).
+     *
+     * @return кнопки, упаковані в молодші 8 біт
+     */
+    public int toBits() {
+        return (up ? UP : 0) | (down ? DOWN : 0) | (left ? LEFT : 0) | (right ? RIGHT : 0)
+            | (climb ? CLIMB : 0) | (jump ? JUMP : 0) | (dash ? DASH : 0) | (restart ? RESTART : 0);
+    }
+
+    /**
+     * Відновлює знімок з бітів, отриманих з {@link #toBits()}.
+     *
+     * @param bits упаковані кнопки
+     */
+    public void setBits(int bits) {
+        up = (bits & UP) != 0;
+        down = (bits & DOWN) != 0;
+        left = (bits & LEFT) != 0;
+        right = (bits & RIGHT) != 0;
+        climb = (bits & CLIMB) != 0;
+        jump = (bits & JUMP) != 0;
+        dash = (bits & DASH) != 0;
+        restart = (bits & RESTART) != 0;
+    }
+}
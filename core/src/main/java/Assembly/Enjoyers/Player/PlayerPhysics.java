@@ -0,0 +1,548 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SweptAabb;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Ядро фізики гравця без залежності від Gdx-контексту (введення, графіки, звуку).
+ * Один виклик {@link #step} приймає стан тіла та знімок керування на крок і повертає
+ * новий стан тіла та події кроку. Завдяки цьому фізику можна запускати без вікна:
+ * у тестах, бенчмарках чи для масової симуляції рівнів.
+ * <p>
+ * Симуляція детермінована побітово: крок фіксований, арифметика float у Java 17 строга,
+ * а трансцендентні функції обчислюються через {@link StrictMath}, тож однакові знімки
+ * керування дають однакову траєкторію на будь-якій машині та в будь-якому стані JIT.
+ * <p>
+ * Правила руху повторено у {@link PlayerBatch} для пакетної симуляції на статичній мапі:
+ * змінюючи їх тут, слід змінити й пакет (збіг перевіряє {@code PlayerBatchTest}).
+ */
+public class PlayerPhysics {
+    static final float GRAVITY = -1200f;
+    static final float MOVE_SPEED = 600f;
+    static final float JUMP_FORCE = 600f;
+    static final float JUMP_PAD_FORCE = 1200f;
+    static final float WALL_SLIDE_SPEED = -200f;
+    static final float WALL_CLIMB_SPEED = 150f;
+    static final float WALL_JUMP_FORCE_X = 1200f;
+    static final float WALL_JUMP_DECAY_RAW = 0.95f;
+    static final int MAX_DASH_COUNT = 1;
+    static final float DASH_FORCE = 1000f;
+    static final float DASH_DECAY_RAW = 0.98f;
+    static final float DASH_MIN_FORCE = 400f;
+    static final float MAX_STAMINA = 100f;
+    static final float STAMINA_DRAIN = 20f;
+    /** Максимальна кількість ітерацій ковзання вздовж поверхонь за один крок. */
+    static final int MAX_SLIDE_ITERATIONS = 3;
+
+    private final float deathDelay;
+    /** Множники згасання деша та імпульсу відштовхування від стіни для кроку {@link #decayStep}. */
+    private float dashDecayFactor = 1f;
+    private float wallJumpDecayFactor = 1f;
+    private float decayStep;
+    /** Результат неперервної перевірки зіткнень (перевикористовується між кроками). */
+    private final SweptAabb.Hit sweepHit = new SweptAabb.Hit();
+    /** Тимчасовий прямокутник для перевірок дотиків, щоб не виділяти пам'ять щокроку. */
+    private final Rectangle probe = new Rectangle();
+    /** Зсув динамічного тіла, що в'їхало в гравця (перевикористовується між кроками). */
+    private final Vector2 push = new Vector2();
+
+    /**
+     * @param deathDelay час від смерті до респавну в секундах
+     */
+    public PlayerPhysics(float deathDelay) {
+        this.deathDelay = deathDelay;
+    }
+
+    /**
+     * Виконує один крок симуляції гравця. Спершу гравця виштовхує динамічне тіло, що в'їхало
+     * в нього під час оновлення мапи; якщо виштовхнути нікуди, гравець гине розчавленим.
+     *
+     * @param body    стан тіла, що оновлюється на місці
+     * @param input   знімок керування на цей крок
+     * @param world   світ колізій рівня
+     * @param hazards індекс небезпек рівня
+     * @param delta   тривалість кроку в секундах
+     * @param events  події кроку (скидаються на початку)
+     * @return true, якщо гравець керований на цьому кроці; false, якщо він загинув або чекає на респавн
+     */
+    public boolean step(PlayerBody body, PlayerInput input, CollisionWorld world, HazardIndex hazards,
+                        float delta, PlayerEvents events) {
+        events.clear();
+        body.state = PlayerState.IDLE;
+
+        if (input.restart) {
+            kill(body);
+            events.restarted = true;
+        }
+
+        if (!body.isDead && pushOut(body, world)) {
+            kill(body);
+            events.died = true;
+            return false;
+        }
+
+        if (handleDeath(body, hazards, delta, events)) return false;
+
+        float moveX = handleHorizontalInput(body, input, delta);
+        dash(body, input, delta, events);
+        applyGravityIfNeeded(body, delta);
+
+        body.updateHitBox();
+        world.sense(body.hitBox, body.contacts);
+        body.onGround = body.contacts.ground;
+        if (!body.prevOnGround && body.onGround)
+            events.landed = true;
+        body.prevOnGround = body.onGround;
+        if (body.onGround) resetDashAndStamina(body);
+
+        body.touchingWall = body.contacts.wall();
+        if (body.touchingWall) body.state = PlayerState.WALL_SLIDING;
+        handleJump(body, input);
+        handleWallInteraction(body, input, delta);
+        if (body.state == PlayerState.JUMPING) events.jumped = true;
+
+        applyMovement(body, world, moveX, delta);
+        updateState(body, moveX);
+        return true;
+    }
+
+    /**
+     * Запам'ятовує динамічне тіло, на якому стоїть гравець, та його позицію.
+     * Викликається до оновлення мапи, щоб після руху платформ {@link #carry} переніс гравця
+     * на той самий зсув.
+     *
+     * @param body  стан тіла
+     * @param world світ колізій рівня
+     */
+    public void findGround(PlayerBody body, CollisionWorld world) {
+        body.ground = null;
+        if (body.isDead) return;
+
+        Rectangle hitBox = body.hitBox;
+        probe.set(hitBox.x, hitBox.y - 1, hitBox.width, 2);
+        Rectangle ground = world.findDynamic(probe);
+        if (ground == null) return;
+
+        body.ground = ground;
+        body.groundX = ground.x;
+        body.groundY = ground.y;
+    }
+
+    /**
+     * Переносить гравця разом з опорою, знайденою в {@link #findGround}, якщо вона зрушила.
+     * Переміщення перевіряється на зіткнення, тож платформа не протягне гравця крізь стіну.
+     *
+     * @param body  стан тіла
+     * @param world світ колізій рівня
+     */
+    public void carry(PlayerBody body, CollisionWorld world) {
+        Rectangle ground = body.ground;
+        body.ground = null;
+        if (ground == null) return;
+
+        float dx = ground.x - body.groundX;
+        float dy = ground.y - body.groundY;
+        if (dx == 0 && dy == 0) return;
+
+        sweepHit.reset();
+        world.sweep(body.hitBox, dx, dy, sweepHit);
+        body.x += dx * sweepHit.time;
+        body.y += dy * sweepHit.time;
+        if (sweepHit.isHit() && sweepHit.normalY > 0)
+            body.y = sweepHit.bound.y + sweepHit.bound.height;
+        body.updateHitBox();
+    }
+
+    /**
+     * Виштовхує гравця з динамічного тіла, що в'їхало в нього під час оновлення мапи
+     * (рухома платформа, на якій гравець не стоїть, або опора, що винесла його в стелю).
+     * Гравець зсувається вздовж останнього руху тіла рівно настільки, щоб вийти з нього.
+     * Якщо перекриття не могло виникнути за цей рух (тіло з'явилося на місці гравця або
+     * гравець лише на похибку float занурився в опору), гравець виходить найкоротшим шляхом.
+     *
+     * @return true, якщо стіна не дала виштовхнути гравця і його розчавлено
+     */
+    private boolean pushOut(PlayerBody body, CollisionWorld world) {
+        Rectangle hitBox = body.hitBox;
+        Rectangle pusher = world.findDynamic(hitBox);
+        if (pusher == null) return false;
+
+        world.getLastMove(pusher, push);
+        float timeX = exitTime(hitBox.x, hitBox.width, pusher.x, pusher.width, push.x);
+        float timeY = exitTime(hitBox.y, hitBox.height, pusher.y, pusher.height, push.y);
+        if (Math.min(timeX, timeY) > 1f + SweptAabb.CONTACT_SLOP) {
+            float left = hitBox.x + hitBox.width - pusher.x, right = pusher.x + pusher.width - hitBox.x;
+            float down = hitBox.y + hitBox.height - pusher.y, up = pusher.y + pusher.height - hitBox.y;
+            float min = Math.min(Math.min(left, right), Math.min(down, up));
+            if (min == up) push.set(0, 1);
+            else if (min == left) push.set(-1, 0);
+            else if (min == right) push.set(1, 0);
+            else push.set(0, -1);
+            timeX = exitTime(hitBox.x, hitBox.width, pusher.x, pusher.width, push.x);
+            timeY = exitTime(hitBox.y, hitBox.height, pusher.y, pusher.height, push.y);
+        }
+        float time = Math.min(timeX, timeY);
+
+        sweepHit.reset();
+        world.getStaticGrid().sweepSolid(hitBox, push.x * time, push.y * time, sweepHit);
+        if (sweepHit.isHit()) {
+            body.x += push.x * time * sweepHit.time;
+            body.y += push.y * time * sweepHit.time;
+            body.updateHitBox();
+            return hitBox.overlaps(pusher);
+        }
+
+        if (timeX <= timeY) {
+            body.x = push.x > 0 ? pusher.x + pusher.width - PlayerBody.HITBOX_X_OFFSET
+                : pusher.x - hitBox.width - PlayerBody.HITBOX_X_OFFSET;
+            body.y += push.y * time;
+        } else {
+            body.x += push.x * time;
+            body.y = push.y > 0 ? pusher.y + pusher.height : pusher.y - hitBox.height;
+        }
+        body.updateHitBox();
+        return false;
+    }
+
+    /**
+     * Частка зсуву {@code move}, після якої відрізок [{@code min}, {@code min + size}] виходить
+     * з відрізка тіла [{@code bodyMin}, {@code bodyMin + bodySize}] по одній осі.
+     */
+    private static float exitTime(float min, float size, float bodyMin, float bodySize, float move) {
+        if (move > 0) return (bodyMin + bodySize - min) / move;
+        if (move < 0) return (bodyMin - min - size) / move;
+        return Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Підкидає гравця вгору (трамплін), зберігаючи горизонтальну швидкість.
+     */
+    public void applyJumpPadBoost(PlayerBody body) {
+        body.dashYVelocity = 0;
+        body.velocityY = JUMP_PAD_FORCE;
+    }
+
+    /**
+     * Вбиває гравця без повідомлення про смерть (перезапуск з меню паузи).
+     */
+    public void kill(PlayerBody body) {
+        body.isDashing = false;
+        body.dashXVelocity = 0;
+        body.dashYVelocity = 0;
+        body.isDead = true;
+        body.deathTimer = deathDelay;
+    }
+
+    /**
+     * Обробляє смерть: зіткнення з небезпекою, очікування та респавн.
+     * @return true, якщо гравець помер або очікує респавну
+     */
+    private boolean handleDeath(PlayerBody body, HazardIndex hazards, float delta, PlayerEvents events) {
+        if (body.isDead) {
+            body.state = PlayerState.DYING;
+            body.velocityY = 0;
+            body.velocityX = 0;
+            body.deathTimer -= delta;
+            if (body.deathTimer <= 0f) {
+                events.respawned = true;
+                events.corpseX = body.x;
+                events.corpseY = body.y - 10;
+                events.corpseFlipX = !body.facingRight;
+                body.x = body.respawnX;
+                body.y = body.respawnY;
+                body.updateHitBox();
+                body.isDead = false;
+            }
+            return true;
+        }
+
+        if (hazards.overlapsLethal(body.hitBox)) {
+            kill(body);
+            events.died = true;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Визначає стан гравця для анімації, якщо його не задала взаємодія зі стіною чи стрибок.
+     */
+    private void updateState(PlayerBody body, float moveX) {
+        PlayerState state = body.state;
+        if (state == PlayerState.WALL_CLIMBING || state == PlayerState.WALL_SLIDING
+            || state == PlayerState.WALL_GRABBING || state == PlayerState.JUMPING) return;
+
+        if (body.isDashing)
+            body.state = PlayerState.DASHING;
+        else if (!body.onGround)
+            body.state = body.velocityY > 0 ? PlayerState.JUMPING : PlayerState.FALLING;
+        else if (moveX != 0)
+            body.state = PlayerState.RUNNING;
+        else
+            body.state = PlayerState.IDLE;
+    }
+
+    /**
+     * Переміщує тіло на зсув кроку з неперервною перевіркою зіткнень (swept AABB).
+     * Тіло зупиняється точно в точці дотику, компонента швидкості вздовж нормалі поверхні
+     * обнуляється, а залишок руху продовжується вздовж поверхні (ковзання).
+     * Якщо гравець стояв на землі і не злітає, після руху він притискається до поверхні
+     * не далі горизонтального зсуву кроку, щоб спускатися схилами, а не зістрибувати з них.
+     */
+    private void applyMovement(PlayerBody body, CollisionWorld world, float moveX, float delta) {
+        Rectangle hitBox = body.hitBox;
+        boolean wallJumpImpulse = Math.abs(body.velocityX) > 600;
+        float dx = wallJumpImpulse ? (body.velocityX + body.dashXVelocity) * delta : moveX + body.dashXVelocity * delta;
+        float dy = (body.velocityY + body.dashYVelocity) * delta;
+        boolean stickToGround = body.onGround && dx != 0 && dy <= 0;
+        float stickDistance = Math.abs(dx) + 1;
+
+        for (int i = 0; i < MAX_SLIDE_ITERATIONS && (dx != 0 || dy != 0); i++) {
+            sweepHit.reset();
+            world.sweep(hitBox, dx, dy, sweepHit);
+
+            body.x += dx * sweepHit.time;
+            body.y += dy * sweepHit.time;
+            body.updateHitBox();
+            if (!sweepHit.isHit()) break;
+
+            Rectangle bound = sweepHit.bound;
+            float remaining = 1f - sweepHit.time;
+            if (sweepHit.normalX != 0) {
+                if (sweepHit.normalX < 0)
+                    body.x = bound.x - hitBox.width - PlayerBody.HITBOX_X_OFFSET;
+                else
+                    body.x = bound.x + bound.width - PlayerBody.HITBOX_X_OFFSET;
+
+                body.velocityX = 0;
+                body.dashXVelocity = 0;
+                dx = 0;
+                dy *= remaining;
+            } else {
+                if (sweepHit.normalY < 0) {
+                    body.y = bound.y - hitBox.height;
+                } else {
+                    body.y = bound.y + bound.height;
+                    body.onGround = true;
+                }
+                body.velocityY = 0;
+                body.dashYVelocity = 0;
+                dy = 0;
+                dx *= remaining;
+            }
+            body.updateHitBox();
+        }
+
+        if (stickToGround && !checkFeetTouching(body, world))
+            stickToGround(body, world, stickDistance);
+
+        if (wallJumpImpulse) {
+            body.velocityX *= wallJumpDecay(delta);
+            if (Math.abs(body.velocityX) < 10f) body.velocityX = 0;
+        }
+    }
+
+    /**
+     * Опускає тіло на поверхню під ним, якщо вона не далі {@code distance}.
+     */
+    private void stickToGround(PlayerBody body, CollisionWorld world, float distance) {
+        sweepHit.reset();
+        world.sweep(body.hitBox, 0, -distance, sweepHit);
+        if (!sweepHit.isHit() || sweepHit.normalY <= 0) return;
+
+        body.y = sweepHit.bound.y + sweepHit.bound.height;
+        body.onGround = true;
+        body.updateHitBox();
+    }
+
+    /**
+     * Обробка поведінки персонажа при взаємодії зі стіною: стаміна, ковзання, лазання.
+     */
+    private void handleWallInteraction(PlayerBody body, PlayerInput input, float delta) {
+        if (!body.touchingWall) return;
+
+        if (input.climb && body.stamina > 0) {
+            body.state = PlayerState.WALL_GRABBING;
+
+            if (body.velocityY <= WALL_CLIMB_SPEED) {
+                if (input.up) {
+                    body.state = PlayerState.WALL_CLIMBING;
+                    body.velocityY = WALL_CLIMB_SPEED;
+                }
+                else if (input.down) {
+                    body.state = PlayerState.WALL_CLIMBING;
+                    body.velocityY = -WALL_CLIMB_SPEED;
+                }
+                else if (body.velocityY < 0)
+                    body.velocityY = 0;
+            }
+
+            if (input.up && input.jump) {
+                body.velocityY = JUMP_FORCE;
+                body.stamina -= STAMINA_DRAIN;
+                body.state = PlayerState.JUMPING;
+            }
+
+            body.stamina -= STAMINA_DRAIN * delta;
+            if (body.stamina < 0) body.stamina = 0;
+        } else if (input.down) {
+            body.velocityY = 0.75f * GRAVITY;
+            body.state = PlayerState.WALL_SLIDING;
+        }
+        else if (body.velocityY < WALL_SLIDE_SPEED) {
+            body.velocityY = WALL_SLIDE_SPEED;
+            body.state = PlayerState.WALL_SLIDING;
+        }
+
+        if (input.jump && !input.up && body.stamina > 0) {
+            if (body.contacts.right) {
+                if (body.lastWallRight)
+                    body.stamina -= STAMINA_DRAIN;
+                body.velocityX = -WALL_JUMP_FORCE_X;
+                body.velocityY = JUMP_FORCE;
+                body.lastWallRight = true;
+                body.state = PlayerState.JUMPING;
+            }
+            else if (body.contacts.left) {
+                if (!body.lastWallRight)
+                    body.stamina -= STAMINA_DRAIN;
+                body.velocityX = WALL_JUMP_FORCE_X;
+                body.velocityY = JUMP_FORCE;
+                body.lastWallRight = false;
+                body.state = PlayerState.JUMPING;
+            }
+        }
+    }
+
+    /**
+     * Стрибок з землі.
+     */
+    private void handleJump(PlayerBody body, PlayerInput input) {
+        if (body.onGround && input.jump) {
+            body.velocityY = JUMP_FORCE;
+            body.state = PlayerState.JUMPING;
+        }
+    }
+
+    /**
+     * Скидає лічильники деша та стаміни, коли персонаж на землі.
+     */
+    private void resetDashAndStamina(PlayerBody body) {
+        body.dashCount = MAX_DASH_COUNT;
+        body.stamina = MAX_STAMINA;
+    }
+
+    /**
+     * Обробляє рух вліво/вправо.
+     * @return зсув по осі OX
+     */
+    private float handleHorizontalInput(PlayerBody body, PlayerInput input, float delta) {
+        float moveX = 0;
+        if (input.left) {
+            moveX -= MOVE_SPEED * delta;
+            body.facingRight = false;
+        }
+        if (input.right) {
+            moveX += MOVE_SPEED * delta;
+            body.facingRight = true;
+        }
+
+        return moveX;
+    }
+
+    /**
+     * Застосовує гравітацію до вертикальної швидкості.
+     */
+    private void applyGravityIfNeeded(PlayerBody body, float delta) {
+        if (!body.isDashing || (body.dashXVelocity == 0 && body.dashYVelocity < 0)) {
+            body.velocityY += GRAVITY * delta;
+        } else {
+            body.velocityY = 0;
+        }
+    }
+
+    /**
+     * Обробляє деш у різні сторони, з лімітом на кількість.
+     * Напрямок деша береться з кнопок руху; без них — у бік, куди дивиться гравець.
+     */
+    private void dash(PlayerBody body, PlayerInput input, float delta, PlayerEvents events) {
+        if (body.isDashing) {
+            float dashDecay = dashDecay(delta);
+            body.dashXVelocity *= dashDecay;
+            body.dashYVelocity *= dashDecay;
+
+            if (Math.abs(body.dashXVelocity) < DASH_MIN_FORCE && Math.abs(body.dashYVelocity) < DASH_MIN_FORCE) {
+                body.dashXVelocity = 0;
+                body.dashYVelocity = 0;
+                body.isDashing = false;
+            }
+            return;
+        }
+
+        if (input.dash && body.dashCount > 0) {
+            float dx = 0, dy = 0;
+            if (input.right) dx = 1;
+            if (input.left) dx = -1;
+            if (input.up) dy = 1f;
+            if (input.down) dy = -1f;
+
+            if (dx == 0 && dy == 0)
+                dx = body.facingRight ? 1 : -1;
+
+            float len = (float) StrictMath.sqrt(dx * dx + dy * dy);
+            if (len != 0) {
+                dx /= len;
+                dy /= len;
+            }
+
+            body.dashXVelocity = dx * DASH_FORCE;
+            body.dashYVelocity = (dy * 3 / 4) * DASH_FORCE;
+            if (body.dashYVelocity == 0)
+                body.dashXVelocity *= (float) 3 / 4;
+            body.isDashing = true;
+            body.dashCount--;
+
+            events.dashed = true;
+        }
+    }
+
+    /**
+     * Множник згасання деша за крок, нормований до 60 кадрів на секунду.
+     * Обчислюється через {@link StrictMath} один раз для кожної тривалості кроку.
+     */
+    private float dashDecay(float delta) {
+        updateDecay(delta);
+        return dashDecayFactor;
+    }
+
+    /**
+     * Множник згасання імпульсу відштовхування від стіни за крок, нормований до 60 кадрів на секунду.
+     */
+    private float wallJumpDecay(float delta) {
+        updateDecay(delta);
+        return wallJumpDecayFactor;
+    }
+
+    private void updateDecay(float delta) {
+        if (delta != decayStep) {
+            dashDecayFactor = (float) StrictMath.pow(DASH_DECAY_RAW, delta * 60);
+            wallJumpDecayFactor = (float) StrictMath.pow(WALL_JUMP_DECAY_RAW, delta * 60);
+            decayStep = delta;
+        }
+    }
+
+    /**
+     * Перевіряє, чи персонаж стоїть на землі після руху (контакти початку кроку вже застаріли).
+     * Датчик має ширину всього хитбоксу: на схилі опора знаходиться під краєм хитбоксу,
+     * а не під його серединою.
+     */
+    private boolean checkFeetTouching(PlayerBody body, CollisionWorld world) {
+        Rectangle hitBox = body.hitBox;
+        probe.set(hitBox.x, hitBox.y - 1, hitBox.width, 2);
+        return world.overlaps(probe);
+    }
+}
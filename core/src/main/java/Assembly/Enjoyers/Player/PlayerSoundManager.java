@@ -15,8 +15,10 @@ import static com.badlogic.gdx.Gdx.files;
  */
 public class PlayerSoundManager {
     private final EnumMap<PlayerState, Sound> sounds = new EnumMap<>(PlayerState.class);
-    private final EnumMap<PlayerState, Float> cooldowns = new EnumMap<>(PlayerState.class);
-    private final EnumMap<PlayerState, Float> timers = new EnumMap<>(PlayerState.class);
+    /** Затримки між повтореннями звуків, індексовані за {@link PlayerState#ordinal()}. */
+    private final float[] cooldowns = new float[PlayerState.values().length];
+    /** Залишок затримки для кожного стану; примітивний масив, щоб оновлення не виділяло пам'ять. */
+    private final float[] timers = new float[PlayerState.values().length];
 
     private long wallSlideSoundId = -1;
 
@@ -29,26 +31,23 @@ public class PlayerSoundManager {
         volume = Gdx.app.getPreferences("settings").getFloat("soundVolume", 0.5f);
 
         sounds.put(PlayerState.RUNNING, load("sounds/steps.ogg"));
-        cooldowns.put(PlayerState.RUNNING, 0.3f);
+        cooldowns[PlayerState.RUNNING.ordinal()] = 0.3f;
 
         sounds.put(PlayerState.WALL_CLIMBING, load("sounds/climb.ogg"));
-        cooldowns.put(PlayerState.WALL_CLIMBING, 0.5f);
+        cooldowns[PlayerState.WALL_CLIMBING.ordinal()] = 0.5f;
 
         sounds.put(PlayerState.DASHING, load("sounds/dash.ogg"));
-        cooldowns.put(PlayerState.DASHING, 0.1f);
+        cooldowns[PlayerState.DASHING.ordinal()] = 0.1f;
 
         sounds.put(PlayerState.LANDING, load("sounds/land.ogg"));
-        cooldowns.put(PlayerState.LANDING, 0.2f);
+        cooldowns[PlayerState.LANDING.ordinal()] = 0.2f;
 
         sounds.put(PlayerState.WALL_SLIDING, load("sounds/wallSlide.ogg"));
 
         sounds.put(PlayerState.JUMPING, load("sounds/jump.ogg"));
-        cooldowns.put(PlayerState.JUMPING, 0.3f);
+        cooldowns[PlayerState.JUMPING.ordinal()] = 0.3f;
 
         sounds.put(PlayerState.DYING, load("sounds/death.ogg"));
-
-        for(PlayerState state : PlayerState.values())
-            timers.put(state, 0f);
     }
 
     /**
@@ -65,7 +64,8 @@ public class PlayerSoundManager {
      * @param delta Проміжок часу між поточним та останнім кадром у секундах.
      */
     public void update(float delta) {
-        timers.replaceAll((e, v) -> timers.get(e) - delta);
+        for (int i = 0; i < timers.length; i++)
+            timers[i] -= delta;
     }
 
     /**
@@ -76,12 +76,9 @@ public class PlayerSoundManager {
         Sound sound = sounds.get(state);
         if (sound == null) return;
 
-        float timeLeft = timers.get(state);
-        float cooldown = cooldowns.getOrDefault(state, 0f);
-
-        if (timeLeft <= 0f) {
+        if (timers[state.ordinal()] <= 0f) {
             sound.play(volume);
-            timers.put(state, cooldown);
+            timers[state.ordinal()] = cooldowns[state.ordinal()];
         }
     }
 
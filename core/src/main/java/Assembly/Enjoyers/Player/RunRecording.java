@@ -0,0 +1,162 @@
+package Assembly.Enjoyers.Player;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Запис проходження рівня: знімок керування на кожен крок симуляції та ланцюжковий хеш
+ * стану гравця після кожного кроку. Оскільки фізика детермінована, результат можна перевірити,
+ * повторно просимулювавши рівень із записаним керуванням і порівнявши кількість кроків та хеш,
+ * замість того щоб довіряти збереженому часу.
+ */
+public class RunRecording {
+    /** Версія формату файлу запису; зростає і при зміні фізики, бо старі записи вже не відтворюються. */
+    private static final int FORMAT_VERSION = 2;
+    private static final long HASH_SEED = 0xcbf29ce484222325L;
+    private static final long HASH_PRIME = 0x100000001b3L;
+
+    private final String levelId;
+    private byte[] inputs;
+    private int ticks;
+    private long hash = HASH_SEED;
+
+    /**
+     * Створює порожній запис для рівня.
+     *
+     * @param levelId ідентифікатор рівня
+     */
+    public RunRecording(String levelId) {
+        this(levelId, new byte[1024], 0, HASH_SEED);
+    }
+
+    private RunRecording(String levelId, byte[] inputs, int ticks, long hash) {
+        this.levelId = levelId;
+        this.inputs = inputs;
+        this.ticks = ticks;
+        this.hash = hash;
+    }
+
+    /**
+     * Додає крок до запису: знімок керування та стан тіла після кроку.
+     *
+     * @param input знімок керування кроку
+     * @param body  стан тіла після кроку
+     */
+    public void record(PlayerInput input, PlayerBody body) {
+        if (ticks == inputs.length) inputs = Arrays.copyOf(inputs, inputs.length * 2);
+        inputs[ticks++] = (byte) input.toBits();
+        hash = hashState(hash, body);
+    }
+
+    /**
+     * Заповнює знімок керування записаного кроку.
+     *
+     * @param tick номер кроку (від 0)
+     * @param out  знімок, що перезаписується; після кінця запису кнопки відпущені
+     */
+    public void getInput(int tick, PlayerInput out) {
+        if (tick < ticks) out.setBits(inputs[tick] & 0xff);
+        else out.clear();
+    }
+
+    /**
+     * Додає стан тіла до ланцюжкового хешу (FNV-1a над бітовим представленням float).
+     *
+     * @param hash попереднє значення хешу
+     * @param body стан тіла
+     * @return нове значення хешу
+     */
+    public static long hashState(long hash, PlayerBody body) {
+        hash = mix(hash, Float.floatToRawIntBits(body.x));
+        hash = mix(hash, Float.floatToRawIntBits(body.y));
+        hash = mix(hash, Float.floatToRawIntBits(body.velocityX));
+        hash = mix(hash, Float.floatToRawIntBits(body.velocityY));
+        hash = mix(hash, Float.floatToRawIntBits(body.dashXVelocity));
+        hash = mix(hash, Float.floatToRawIntBits(body.dashYVelocity));
+        hash = mix(hash, Float.floatToRawIntBits(body.stamina));
+        return mix(hash, body.state.ordinal());
+    }
+
+    /**
+     * Перевіряє, чи інший запис (наприклад, отриманий повторною симуляцією) дав той самий результат.
+     *
+     * @param other запис для порівняння
+     * @return true, якщо кількість кроків і хеш збігаються
+     */
+    public boolean matches(RunRecording other) {
+        return ticks == other.ticks && hash == other.hash;
+    }
+
+    /**
+     * Записує проходження у потік.
+     *
+     * @param out потік виведення
+     * @throws IOException у разі помилки запису
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(FORMAT_VERSION);
+        data.writeUTF(levelId);
+        data.writeInt(ticks);
+        data.writeLong(hash);
+        data.write(inputs, 0, ticks);
+        data.flush();
+    }
+
+    /**
+     * Читає проходження з потоку.
+     *
+     * @param in потік введення
+     * @return прочитаний запис
+     * @throws IOException у разі помилки читання, невідомої версії формату, некоректної кількості кроків
+     *                     чи обрізаного запису
+     */
+    public static RunRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int version = data.readInt();
+        if (version != FORMAT_VERSION) throw new IOException("Unsupported run format version: " + version);
+
+        String levelId = data.readUTF();
+        int ticks = data.readInt();
+        long hash = data.readLong();
+        if (ticks < 0) throw new IOException("Invalid run tick count: " + ticks);
+        // Читається порціями, тож пошкоджена кількість кроків не виділяє масив наперед.
+        byte[] inputs = data.readNBytes(ticks);
+        if (inputs.length < ticks) throw new IOException("Truncated run: " + inputs.length + " of " + ticks + " ticks");
+        if (inputs.length == 0) inputs = new byte[1];
+        return new RunRecording(levelId, inputs, ticks, hash);
+    }
+
+    /**
+     * @return ідентифікатор рівня
+     */
+    public String getLevelId() {
+        return levelId;
+    }
+
+    /**
+     * @return кількість записаних кроків
+     */
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return ланцюжковий хеш стану гравця
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int i = 0; i < 4; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= HASH_PRIME;
+        }
+        return hash;
+    }
+}
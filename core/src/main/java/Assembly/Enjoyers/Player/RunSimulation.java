@@ -0,0 +1,136 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.AnimatedBlocks.JumpPad;
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.LevelWorld;
+import Assembly.Enjoyers.Map.Trigger.Trigger;
+import Assembly.Enjoyers.Map.Trigger.TriggerListener;
+import Assembly.Enjoyers.Map.Trigger.TriggerPhase;
+import com.badlogic.gdx.math.Rectangle;
+
+/**
+ * Крок симуляції проходження рівня: об'єкти мапи, рух гравця та тригерні зони в тому порядку,
+ * в якому їх виконує гра. Не залежить від Gdx-контексту, тож той самий крок використовують
+ * і {@code GameScreen}, і перевірка запису проходження повторною симуляцією без вікна
+ * ({@link #verify}). Звуки, анімації та тіла загиблого гравця гра обробляє за подіями кроку ({@link #getEvents()}).
+ */
+public class RunSimulation {
+    /** Фіксований крок фізичної симуляції (120 Гц), однаковий на будь-якій частоті екрана. */
+    public static final float STEP = 1 / 120f;
+    /** Розмір видимої області світу; половина її визначає, які регіони симуляції активні. */
+    public static final float VIEW_WIDTH = 1920, VIEW_HEIGHT = 1080;
+
+    private final LevelWorld world;
+    private final PlayerBody body;
+    private final PlayerPhysics physics;
+    /** Події кроку (перевикористовуються між кроками). */
+    private final PlayerEvents events = new PlayerEvents();
+    /** Обробник подій тригерних зон (створюється один раз, щоб не виділяти пам'ять щокроку). */
+    private final TriggerListener triggerListener = this::onTrigger;
+    private boolean controlled;
+    /** Чи увійшов гравець у зону фінішу на поточному кроці. */
+    private boolean reachedExit;
+
+    /**
+     * @param world   ігровий світ рівня з зоною фінішу
+     * @param body    стан тіла гравця
+     * @param physics фізика гравця
+     */
+    public RunSimulation(LevelWorld world, PlayerBody body, PlayerPhysics physics) {
+        this.world = world;
+        this.body = body;
+        this.physics = physics;
+    }
+
+    /**
+     * Виконує один фіксований крок симуляції: платформи, crumble-блоки, трампліни, рух гравця і тригери.
+     * Оновлюються лише об'єкти мапи в регіонах навколо гравця, решта спить.
+     * Опора під гравцем запам'ятовується до руху платформ, щоб платформа перенесла гравця.
+     *
+     * @param input знімок керування на цей крок
+     * @param step  тривалість кроку в секундах
+     * @return true, якщо гравець дістався кінця рівня
+     */
+    public boolean step(PlayerInput input, float step) {
+        CollisionWorld collisionWorld = world.getCollisionWorld();
+        Rectangle hitBox = body.getHitBox();
+        world.getSimulationRegions().setFocus(hitBox.x + hitBox.width / 2, hitBox.y + hitBox.height / 2,
+            VIEW_WIDTH / 2, VIEW_HEIGHT / 2);
+        physics.findGround(body, collisionWorld);
+        world.update(step);
+
+        physics.carry(body, collisionWorld);
+        controlled = physics.step(body, input, collisionWorld, world.getHazardIndex(), step, events);
+
+        reachedExit = false;
+        world.getTriggerIndex().update(hitBox, triggerListener);
+        return reachedExit;
+    }
+
+    /**
+     * Реагує на вхід гравця в тригерні зони: трамплін підкидає гравця,
+     * чекпоінт змінює точку респавну, фініш завершує рівень.
+     */
+    private void onTrigger(Trigger trigger, TriggerPhase phase) {
+        if (phase == TriggerPhase.EXIT) return;
+
+        switch (trigger.getTriggerType()) {
+            case JUMP_PAD -> {
+                JumpPad jumpPad = (JumpPad) trigger;
+                if (!jumpPad.isTriggered()) {
+                    jumpPad.trigger();
+                    physics.applyJumpPadBoost(body);
+                    events.jumpPadTriggered = true;
+                }
+            }
+            case CHECK_POINT -> {
+                if (phase == TriggerPhase.ENTER) {
+                    Rectangle bounds = trigger.getTriggerBounds();
+                    body.setRespawnPoint(bounds.x + bounds.width / 2 - body.width / 2, bounds.y);
+                }
+            }
+            case LEVEL_EXIT -> reachedExit = true;
+        }
+    }
+
+    /**
+     * @return події останнього кроку
+     */
+    public PlayerEvents getEvents() {
+        return events;
+    }
+
+    /**
+     * @return чи був гравець керованим на останньому кроці
+     */
+    public boolean isControlled() {
+        return controlled;
+    }
+
+    /**
+     * Перевіряє запис проходження повторною симуляцією без вікна: програє записане керування
+     * з точки появи у новому світі рівня і порівнює кількість кроків та хеш стану гравця.
+     * Симуляція зупиняється, як і в грі, на фініші або після останнього записаного кроку.
+     *
+     * @param world  новий ігровий світ рівня з зоною фінішу (змінюється симуляцією)
+     * @param spawnX координата X точки появи
+     * @param spawnY координата Y точки появи
+     * @param run    запис проходження
+     * @return true, якщо повторна симуляція дійшла до фінішу з тим самим хешем
+     */
+    public static boolean verify(LevelWorld world, float spawnX, float spawnY, RunRecording run) {
+        PlayerBody body = new PlayerBody(Player.SPRITE_WIDTH, Player.SPRITE_HEIGHT, spawnX, spawnY);
+        RunSimulation simulation = new RunSimulation(world, body,
+            new PlayerPhysics(PlayerAnimationManager.DYING_DURATION));
+        RunRecording replay = new RunRecording(run.getLevelId());
+        PlayerInput input = new PlayerInput();
+
+        boolean reachedExit = false;
+        for (int tick = 0; tick < run.getTicks() && !reachedExit; tick++) {
+            run.getInput(tick, input);
+            reachedExit = simulation.step(input, STEP);
+            replay.record(input, body);
+        }
+        return reachedExit && run.matches(replay);
+    }
+}
@@ -3,11 +3,21 @@ package Assembly.Enjoyers.Screens;
 import Assembly.Enjoyers.MainGame;
 import Assembly.Enjoyers.Map.AnimatedBlocks.CrumblingBlock;
 import Assembly.Enjoyers.Map.AnimatedBlocks.JumpPad;
+import Assembly.Enjoyers.Map.AnimatedBlocks.MovingPlatform;
+import Assembly.Enjoyers.Map.Collision.SpatialGrid;
 import Assembly.Enjoyers.Map.GameMap;
+import Assembly.Enjoyers.Map.LevelCatalog;
+import Assembly.Enjoyers.Map.LevelWorld;
+import Assembly.Enjoyers.Map.SimulationRegions;
 import Assembly.Enjoyers.Map.TiledGameMap;
 import Assembly.Enjoyers.Utils.Assets;
+import Assembly.Enjoyers.Utils.EnvironmentSoundManager;
 import Assembly.Enjoyers.Utils.MusicManager;
+import Assembly.Enjoyers.Player.InputHandler;
 import Assembly.Enjoyers.Player.Player;
+import Assembly.Enjoyers.Player.PlayerInput;
+import Assembly.Enjoyers.Player.RunRecording;
+import Assembly.Enjoyers.Player.RunSimulation;
 import Assembly.Enjoyers.Utils.TimeConverter;
 import com.badlogic.gdx.*;
 import com.badlogic.gdx.graphics.*;
@@ -15,6 +25,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Image;
@@ -22,11 +33,13 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -35,16 +48,25 @@ import java.util.List;
  */
 public class GameScreen implements Screen {
     //region variables
+    /** Фіксований крок фізичної симуляції (120 Гц), однаковий на будь-якій частоті екрана. */
+    private static final float SIM_STEP = RunSimulation.STEP;
+    /** Максимальна кількість кроків симуляції за кадр, щоб після фризу гра не намагалась «наздогнати» все. */
+    private static final int MAX_STEPS_PER_FRAME = 8;
+
     private MainGame game;
 
     private Viewport viewport;
     private OrthographicCamera camera;
 
     private Player player;
-    private List<Rectangle> staticBounds;
-    private List<Rectangle> spikes;
-    private List<CrumblingBlock> crumblingBlocks;
-    private final List<Rectangle> activeCollisions = new ArrayList<>();
+    private SpatialGrid collisionGrid;
+    private SimulationRegions simulationRegions;
+    /** Крок симуляції рівня, спільний з перевіркою запису без вікна. */
+    private RunSimulation simulation;
+    /** Звуки об'єктів мапи (трамплінів). */
+    private EnvironmentSoundManager environmentSounds;
+    /** Чи увійшов гравець у зону фінішу на поточному кроці. */
+    private boolean reachedExit;
     private GameMap gameMap;
 
     private boolean isPaused = false;
@@ -54,12 +76,24 @@ public class GameScreen implements Screen {
     private BitmapFont font;
     private InputProcessor inputProcessor;
     private Rectangle endOfTheLevel;
+    /** Видима область світу в поточному кадрі, перевикористовується між кадрами. */
+    private final Rectangle view = new Rectangle();
 
     private float playTime; // Таймер гри в секундах
+    private int tick; // Кількість виконаних кроків симуляції
+    private float accumulator; // Накопичений, ще не просимульований час кадрів
     private final String levelId;
     private Preferences pref;
     private int deathCount;
 
+    /** Знімок керування на поточний крок (з клавіатури або із запису). */
+    private final PlayerInput input = new PlayerInput();
+    /** Запис поточного проходження. */
+    private RunRecording recording;
+    /** Запис, що програється для перевірки; null у звичайній грі. */
+    private final RunRecording replay;
+    /** Перезапуск з меню паузи, що буде застосований на наступному кроці. */
+    private boolean restartRequested;
 
     // Координати респауну та кінця рівня
     private float respawnX;
@@ -71,8 +105,20 @@ public class GameScreen implements Screen {
      * @param game головний об'єкт гри
      */
     public GameScreen(MainGame game, String levelId) {
+        this(game, levelId, null);
+    }
+
+    /**
+     * Створює ігровий екран, що програє запис проходження замість керування з клавіатури.
+     * Фізика детермінована, тож повторна симуляція має дати той самий хеш стану;
+     * результат перевірки пишеться в лог після фінішу.
+     * @param game головний об'єкт гри
+     * @param replay запис проходження або null для звичайної гри
+     */
+    public GameScreen(MainGame game, String levelId, RunRecording replay) {
         this.game = game;
         this.levelId = levelId;
+        this.replay = replay;
         pref = Gdx.app.getPreferences("Levels");
 
         setUpGame();
@@ -85,41 +131,39 @@ public class GameScreen implements Screen {
     private void setUpGame(){
         deathCount = 0;
         playTime = 0f;
+        tick = 0;
+        accumulator = 0f;
+        recording = new RunRecording(levelId);
 
         camera = new OrthographicCamera();
-        viewport = new StretchViewport(1920, 1080, camera);
-
-        switch (levelId) {
-            case "levelId-1":
-                gameMap = new TiledGameMap("maps/level1/map.tmx");
-                respawnX = 950;
-                respawnY = 400;
-                endOfTheLevel = new Rectangle(23420, 800, 60, 130);
-                break;
-            case "levelId-2":
-                gameMap = new TiledGameMap("maps/level2/map.tmx");
-                respawnX = 950;
-                respawnY = 400;
-                endOfTheLevel = new Rectangle(27005, 1025, 60, 130);
-                break;
-            case "levelId-3":
-                gameMap = new TiledGameMap("maps/level3/map.tmx");
-                respawnX = 950;
-                respawnY = 4850;
-
-                endOfTheLevel = new Rectangle(14900, 4640, 60, 130);
-                break;
-
-            default:
-                throw new IllegalArgumentException("Unknown level ID: " + levelId);
+        viewport = new StretchViewport(RunSimulation.VIEW_WIDTH, RunSimulation.VIEW_HEIGHT, camera);
+
+        LevelCatalog.Entry level = game.levelCatalog.get(levelId);
+        if (level == null)
+            throw new IllegalArgumentException("Unknown level ID: " + levelId);
+        gameMap = new TiledGameMap(level.getMapPath());
+        respawnX = level.getSpawnX();
+        respawnY = level.getSpawnY();
+        endOfTheLevel = new Rectangle(level.getExit());
+
+        // Точка появи та фініш, задані на самій мапі, мають пріоритет над значеннями з каталогу.
+        Vector2 spawn = gameMap.getSpawnPoint();
+        if (spawn != null) {
+            respawnX = spawn.x;
+            respawnY = spawn.y;
         }
+        if (gameMap.getExitBounds() != null) endOfTheLevel = gameMap.getExitBounds();
 
-        staticBounds = gameMap.getCollisionRects();
-        crumblingBlocks = gameMap.getCrumblingBlocks();
-        spikes = gameMap.getSpikes();
+        collisionGrid = gameMap.getCollisionGrid();
+        simulationRegions = gameMap.getSimulationRegions();
+        LevelWorld world = gameMap.getWorld();
+        world.setExit(endOfTheLevel);
 
-        player = new Player(this::incDeath, respawnX, respawnY);
+        boolean persistentCorpses = Gdx.app.getPreferences("settings").getBoolean("persistentCorpses", false);
+        player = new Player(this::incDeath, respawnX, respawnY, persistentCorpses);
         player.loadStaminaTextures();
+        simulation = new RunSimulation(world, player.getBody(), player.getPhysics());
+        environmentSounds = new EnvironmentSoundManager();
         MusicManager.init();
     }
 
@@ -166,7 +210,7 @@ public class GameScreen implements Screen {
                 game.buttonPress();
                 incDeath();
                 resume();
-                player.respawn();
+                restartRequested = true;
             }
         });
 
@@ -174,7 +218,7 @@ public class GameScreen implements Screen {
             @Override
             public void changed(ChangeEvent event, Actor actor) {
                 game.buttonPress();
-                saveDeath();
+                if (replay == null) saveDeath();
                 game.setScreen(game.mainMenuScreen);
                 dispose();
             }
@@ -198,64 +242,72 @@ public class GameScreen implements Screen {
     }
 
     /**
-     * Зберігає дані про час у файл.
+     * Зберігає дані про час у файл. Разом із новим рекордом зберігається запис проходження,
+     * за яким рекорд можна перевірити повторною симуляцією.
      */
     private void saveTime(){
         final float bestTime = pref.getFloat(levelId + "BestTime", 0f);
         if (bestTime > playTime || bestTime == 0) {
             pref.putFloat(levelId + "BestTime", playTime);
             pref.flush();
+            if (verifyRecording()) saveRecording();
+        }
+    }
+
+    /**
+     * Перевіряє запис проходження повторною симуляцією без вікна у новому світі рівня.
+     * Запис, який не відтворюється, не зберігається: перевірити рекорд за ним було б неможливо.
+     *
+     * @return true, якщо запис відтворюється
+     */
+    private boolean verifyRecording() {
+        LevelWorld world = gameMap.createWorld();
+        world.setExit(endOfTheLevel);
+        boolean verified = RunSimulation.verify(world, respawnX, respawnY, recording);
+        if (!verified) Gdx.app.error("GameScreen", "Run for " + levelId + " does not replay, not saving it");
+        return verified;
+    }
+
+    /**
+     * Записує проходження у файл {@code runs/<levelId>.run}.
+     */
+    private void saveRecording() {
+        try (OutputStream out = Gdx.files.local("runs/" + levelId + ".run").write(false)) {
+            recording.write(out);
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Failed to save run for " + levelId, e);
         }
     }
 
     /**
      * Основний метод рендерингу, викликається кожен кадр.
+     * Фізика просувається фіксованими кроками {@link #SIM_STEP} за допомогою акумулятора,
+     * а гравець і камера малюються в позиції, інтерпольованій між двома останніми кроками.
      * @param delta час між кадрами
      */
     @Override
     public void render(float delta) {
-        delta = Math.min(delta, 1/60f);
-
         if(Gdx.input.isKeyJustPressed(Input.Keys.ESCAPE)) {
             if (isPaused) resume();
             else pause();
         }
 
         if (!isPaused) {
-            activeCollisions.clear();
-
-            activeCollisions.addAll(staticBounds);
-
-            for (CrumblingBlock block : crumblingBlocks) {
-                block.update(delta);
-                if (block.isActive() && block.getStage() < 5) {
-                    activeCollisions.add(block.getBounds());
+            InputHandler.latchJustPressed();
+            accumulator += Math.min(delta, MAX_STEPS_PER_FRAME * SIM_STEP);
+
+            while (accumulator >= SIM_STEP) {
+                accumulator -= SIM_STEP;
+                if (simulateStep(SIM_STEP)) {
+                    finishLevel();
+                    return;
                 }
             }
 
-            for (JumpPad jumpPad : gameMap.getJumpPads()) {
-                jumpPad.update(delta);
-
-                if (player.getHitBox().overlaps(jumpPad.getTriggerBounds())) {
-
-                    if (!jumpPad.isTriggered()) {
-                        jumpPad.trigger();
-                        player.applyJumpPadBoost();
-                    }
-                }
-            }
-
-            player.move(activeCollisions, spikes,crumblingBlocks ,delta);
-            playTime += delta;
-
-            if (player.getHitBox().overlaps(endOfTheLevel)) {
-                finishLevel();
-                return;
-            }
-
+            float alpha = accumulator / SIM_STEP;
             camera.position.set(
-                player.sprite.getX() + player.sprite.getWidth() / 2,
-                player.sprite.getY() + 2 * player.sprite.getHeight(),
+                player.getRenderX(alpha) + player.sprite.getWidth() / 2,
+                player.getRenderY(alpha) + 2 * player.sprite.getHeight(),
                 0
             );
             camera.update();
@@ -270,7 +322,7 @@ public class GameScreen implements Screen {
         viewport.apply();
         game.batch.setProjectionMatrix(camera.combined);
         game.batch.begin();
-        draw(delta);
+        draw(delta, accumulator / SIM_STEP);
 
         String timeStr = TimeConverter.formatTime(playTime);
         font.draw(game.batch, "Час гри: " + timeStr, camera.position.x + viewport.getWorldWidth() / 3, camera.position.y + viewport.getWorldHeight()/2 - 20);
@@ -293,26 +345,71 @@ public class GameScreen implements Screen {
     }
 
 
+    /**
+     * Виконує один фіксований крок симуляції ({@link RunSimulation#step}) і реагує на його події:
+     * звуки та анімації гравця, звук трампліна, падіння тіл загиблого гравця.
+     * @param step тривалість кроку в секундах
+     * @return true, якщо гравець дістався кінця рівня
+     */
+    private boolean simulateStep(float step) {
+        if (replay != null) {
+            replay.getInput(tick, input);
+        } else {
+            InputHandler.snapshot(input);
+            input.restart = restartRequested;
+            restartRequested = false;
+        }
+
+        player.beforeStep();
+        reachedExit = simulation.step(input, step);
+        player.afterStep(simulation.getEvents(), simulation.isControlled(), step);
+        if (simulation.getEvents().jumpPadTriggered) environmentSounds.playJumpPad();
+        player.updateCorpse(collisionGrid, step);
+        InputHandler.consumeJustPressed();
+
+        recording.record(input, player.getBody());
+        tick++;
+        playTime = tick * step;
+        return reachedExit || (replay != null && tick >= replay.getTicks());
+    }
+
     /**
      * При успішному закінченню рівня, гравцеві показується вікно зі статистикою.
      */
     private void finishLevel() {
-        saveDeath();
-        saveTime();
+        if (replay != null) {
+            boolean verified = reachedExit && replay.matches(recording);
+            Gdx.app.log("GameScreen", "Run replay for " + levelId + (verified ? " verified" : " does not match")
+                + " (" + recording.getTicks() + "/" + replay.getTicks() + " ticks)");
+        } else {
+            saveDeath();
+            saveTime();
+        }
         Gdx.input.setCursorCatched(false);
 
         game.gameOver(new FinishScreen(game, deathCount, playTime));
     }
 
     /**
-     * Малює гравця та тіло після смерті.
+     * Малює гравця, об'єкти мапи та тіло після смерті.
      * @param delta час між кадрами
+     * @param alpha частка кроку симуляції, що минула після останнього кроку (для інтерполяції)
      */
-    private void draw(float delta) {
+    private void draw(float delta, float alpha) {
+        view.set(camera.position.x - viewport.getWorldWidth() / 2, camera.position.y - viewport.getWorldHeight() / 2,
+            viewport.getWorldWidth(), viewport.getWorldHeight());
+
+        List<MovingPlatform> platforms = gameMap.getMovingPlatforms();
+        for (int i = 0; i < platforms.size(); i++) {
+            MovingPlatform platform = platforms.get(i);
+            if (view.overlaps(platform.getBounds()))
+                platform.draw(game.batch, alpha);
+        }
+
         TextureRegion currentPlayerFrame = player.getFrame(delta, isPaused);
-        game.batch.draw(currentPlayerFrame, player.sprite.getX(), player.sprite.getY(), player.sprite.getWidth(), player.sprite.getHeight());
+        game.batch.draw(currentPlayerFrame, player.getRenderX(alpha), player.getRenderY(alpha), player.sprite.getWidth(), player.sprite.getHeight());
 
-        for (CrumblingBlock block : gameMap.getCrumblingBlocks()) {
+        for (CrumblingBlock block : simulationRegions.getAwakeBlocks()) {
 
             if (!block.isDestroyed()) {
                 TextureRegion blockFrame = block.getCurrentFrame(delta);
@@ -321,14 +418,13 @@ public class GameScreen implements Screen {
             }
         }
 
-        for (JumpPad jumpPad : gameMap.getJumpPads()) {
+        for (JumpPad jumpPad : simulationRegions.getAwakePads()) {
             TextureRegion frame = jumpPad.getCurrentFrame();
             Rectangle drawBounds = jumpPad.getDrawBounds();
             game.batch.draw(frame, drawBounds.x, drawBounds.y, drawBounds.width, drawBounds.height);
         }
 
-
-        player.drawCorpse(game.batch, staticBounds, delta);
+        player.drawCorpse(game.batch, alpha, view);
     }
 
     /**
@@ -371,6 +467,7 @@ public class GameScreen implements Screen {
         game = null;
 
         player.dispose();
+        environmentSounds.dispose();
         gameMap.dispose();
         pauseStage.dispose();
 
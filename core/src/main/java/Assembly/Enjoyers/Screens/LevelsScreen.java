@@ -1,11 +1,14 @@
 package Assembly.Enjoyers.Screens;
 
 import Assembly.Enjoyers.MainGame;
+import Assembly.Enjoyers.Map.LevelCatalog;
+import Assembly.Enjoyers.Player.RunRecording;
 import Assembly.Enjoyers.Utils.Assets;
 import Assembly.Enjoyers.Utils.TimeConverter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -14,11 +17,16 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.*;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 /**
  * Екран вибору рівнів у грі.
- * Відображає список рівнів з інформацією про найкращий час і кількість смертей,
+ * Відображає список рівнів з каталогу ({@link LevelCatalog}) з інформацією про найкращий час і кількість смертей,
  * дозволяє перейти до обраного рівня або повернутись у головне меню.
  */
 public class LevelsScreen implements Screen {
@@ -29,9 +37,11 @@ public class LevelsScreen implements Screen {
     private Label[] deathLabels;
     private Label[] timeLabels;
     private TextButton[] levelButtons;
+    private TextButton[] replayButtons;
     private Preferences pref;
 
-    private final int levelCount = 3;
+    private final List<LevelCatalog.Entry> levels;
+    private final int levelCount;
 
     /**
      * Створює новий екран вибору рівнів.
@@ -40,6 +50,8 @@ public class LevelsScreen implements Screen {
      */
     public LevelsScreen(MainGame game) {
         this.game = game;
+        levels = game.levelCatalog.getLevels();
+        levelCount = levels.size();
         background = new Texture("temp/background.png");
         pref = Gdx.app.getPreferences("levels");
         skin = Assets.get("skin/uiskin.json", Skin.class);
@@ -47,6 +59,7 @@ public class LevelsScreen implements Screen {
         deathLabels = new Label[levelCount];
         timeLabels = new Label[levelCount];
         levelButtons = new TextButton[levelCount];
+        replayButtons = new TextButton[levelCount];
 
         for (int i = 0; i < levelCount; i++) {
             deathLabels[i] = new Label("Death", skin);
@@ -74,12 +87,12 @@ public class LevelsScreen implements Screen {
 
         Label title = new Label("Оберiть рiвень", skin);
         title.setFontScale(4f);
-        table.add(title).colspan(2).padBottom(50).center().row();
+        table.add(title).colspan(3).padBottom(50).center().row();
 
         for (int i = 1; i <= levelCount; i++) {
-            final String levelId = "levelId-" + i;
+            final String levelId = levels.get(i - 1).getId();
 
-            TextButton levelButton = new TextButton("Рiвень " + i, skin);
+            TextButton levelButton = new TextButton(levels.get(i - 1).getName(), skin);
             levelButtons[i - 1] = levelButton;
 
             levelButton.addListener(new ClickListener() {
@@ -92,12 +105,28 @@ public class LevelsScreen implements Screen {
                 }
             });
 
+            TextButton replayButton = new TextButton("Повтор", skin);
+            replayButtons[i - 1] = replayButton;
+
+            replayButton.addListener(new ClickListener() {
+                @Override
+                public void clicked(InputEvent event, float x, float y) {
+                    if (!replayButton.isDisabled()) {
+                        game.buttonPress();
+                        RunRecording replay = loadRun(levelId);
+                        if (replay != null)
+                            game.setScreen(new GameScreen(game, levelId, replay));
+                    }
+                }
+            });
+
             Table infoTable = new Table();
             infoTable.add(timeLabels[i-1]).left().row();
             infoTable.add(deathLabels[i-1]).left();
 
             table.add(levelButton).width(200).height(60).padBottom(20).padRight(20);
-            table.add(infoTable).left().padBottom(20).row();
+            table.add(infoTable).left().padBottom(20).padRight(20);
+            table.add(replayButton).width(140).height(60).padBottom(20).row();
         }
 
         TextButton backButton = new TextButton("Назад", skin);
@@ -109,11 +138,32 @@ public class LevelsScreen implements Screen {
             }
         });
 
-        table.add(backButton).colspan(2).padTop(30).width(200).height(50);
+        table.add(backButton).colspan(3).padTop(30).width(200).height(50);
 
         updateUI();
     }
 
+    /**
+     * Файл запису рекордного проходження рівня.
+     */
+    private static FileHandle runFile(String levelId) {
+        return Gdx.files.local("runs/" + levelId + ".run");
+    }
+
+    /**
+     * Завантажує запис рекордного проходження рівня.
+     *
+     * @return запис або null, якщо його не вдалося прочитати
+     */
+    private static RunRecording loadRun(String levelId) {
+        try (InputStream in = runFile(levelId).read()) {
+            return RunRecording.read(in);
+        } catch (IOException | GdxRuntimeException e) {
+            Gdx.app.error("LevelsScreen", "Failed to load run for " + levelId, e);
+            return null;
+        }
+    }
+
     /**
      * Оновлює текст ярликів (час проходження та кількість смертей) та кнопки для кожного рівня.
      */
@@ -121,16 +171,17 @@ public class LevelsScreen implements Screen {
         pref = Gdx.app.getPreferences("Levels");
 
         for (int i = 0; i < levelCount; i++) {
-            final String levelId = "levelId-" + (i + 1);
+            final String levelId = levels.get(i).getId();
             float bestTime = pref.getFloat(levelId + "BestTime", 0);
             int deaths = pref.getInteger(levelId + "Deaths", 0);
 
             timeLabels[i].setText("Час: " + (bestTime != 0 ? TimeConverter.formatTime(bestTime) : "--:--"));
             deathLabels[i].setText("Смертей: " + deaths);
 
-            boolean unlocked = (i == 0) || pref.getFloat("levelId-" + i + "BestTime", 0) > 0;
+            boolean unlocked = (i == 0) || pref.getFloat(levels.get(i - 1).getId() + "BestTime", 0) > 0;
             TextButton btn = levelButtons[i];
             btn.setDisabled(!unlocked);
+            replayButtons[i].setDisabled(bestTime == 0 || !runFile(levelId).exists());
         }
     }
 
@@ -27,6 +27,7 @@ public class SettingsScreen implements Screen {
 
     private float initialMusic;
     private float initialSound;
+    private boolean initialCorpses;
     private KeyBinding[] bindings;
 
 
@@ -100,6 +101,13 @@ public class SettingsScreen implements Screen {
         table.add(soundSlider).width(200).padTop(20);
         table.add(soundValueLabel).padLeft(10).padTop(20).row();
 
+        table.add(new Label("Гра", skin)).colspan(2).padTop(20).center().row();
+
+        CheckBox corpsesCheckBox = new CheckBox(" Залишати тiла всiх смертей", skin);
+        initialCorpses = prefs.getBoolean("persistentCorpses", false);
+        corpsesCheckBox.setChecked(initialCorpses);
+        table.add(corpsesCheckBox).colspan(2).left().padTop(10).row();
+
         table.add(new Label("Керування", skin)).colspan(2).padTop(20).center().row();
 
         bindings = new KeyBinding[]{
@@ -124,6 +132,8 @@ public class SettingsScreen implements Screen {
                 prefs.putFloat("musicVolume", musicSlider.getValue());
                 initialSound = soundSlider.getValue();
                 prefs.putFloat("soundVolume", soundSlider.getValue());
+                initialCorpses = corpsesCheckBox.isChecked();
+                prefs.putBoolean("persistentCorpses", corpsesCheckBox.isChecked());
 
                 for (KeyBinding binding : bindings) {
                     prefs.putInteger(binding.prefKey, binding.currentValue);
@@ -149,6 +159,7 @@ public class SettingsScreen implements Screen {
                 game.buttonPress();
                 boolean musicChanged = Math.abs(musicSlider.getValue() - initialMusic) > 0.01f;
                 boolean soundChanged = Math.abs(soundSlider.getValue() - initialSound) > 0.01f;
+                boolean corpsesChanged = corpsesCheckBox.isChecked() != initialCorpses;
                 boolean keyChanged = false;
 
                 for (KeyBinding binding : bindings) {
@@ -158,7 +169,7 @@ public class SettingsScreen implements Screen {
                     }
                 }
 
-                if (musicChanged || soundChanged || keyChanged) {
+                if (musicChanged || soundChanged || corpsesChanged || keyChanged) {
                     Dialog dialog = new Dialog("Увага", skin) {
                         protected void result(Object obj) {
                             if ((Boolean)obj) {
@@ -1,11 +1,11 @@
 package Assembly.Enjoyers.Utils;
 
+import Assembly.Enjoyers.Map.LevelMapLoader;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.maps.tiled.TiledMap;
-import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
 /**
@@ -17,11 +17,12 @@ public class Assets {
     private static final AssetManager manager = new AssetManager();
 
     /**
-     * Ініціалізує завантажувач для TiledMap та реєструє базові ресурси для гри.
+     * Ініціалізує завантажувач для TiledMap ({@link LevelMapLoader}, без клітинок шарів тайлів)
+     * та реєструє базові ресурси для гри.
      * Має бути викликаний на початку завантаження (наприклад, у методі create()).
      */
     public static void init() {
-        manager.setLoader(TiledMap.class, new TmxMapLoader(new InternalFileHandleResolver()));
+        manager.setLoader(TiledMap.class, new LevelMapLoader(new InternalFileHandleResolver()));
 
         manager.load("player/adventurer.atlas", TextureAtlas.class);
 
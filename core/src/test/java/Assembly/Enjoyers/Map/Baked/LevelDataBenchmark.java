@@ -0,0 +1,132 @@
+package Assembly.Enjoyers.Map.Baked;
+
+import Assembly.Enjoyers.Map.TileRegistry;
+import Assembly.Enjoyers.Map.TileTyped;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Порівнює послідовну ({@link LevelDataBuilder#addTileLayer(int[])}) та паралельну
+ * ({@link LevelDataBuilder#addTileLayers(List, ForkJoinPool)}) побудову даних рівня на синтетичній
+ * мапі 2000x300 і перевіряє, що обидва варіанти дають побайтово однаковий {@link LevelFile}.
+ * Запуск: {@code gradlew :core:benchmarkLevelData --args="layers threads runs"}.
+ */
+public class LevelDataBenchmark {
+    private static final int WIDTH = 2000, HEIGHT = 300;
+
+    /** Час класифікації шарів останньої побудови (без об'єднання прямокутників та індексу). */
+    private static long classifyNanos;
+
+    public static void main(String[] args) throws IOException {
+        int layerCount = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int runs = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+
+        List<int[]> layers = syntheticLayers(WIDTH, HEIGHT, layerCount, 42);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        // Прогрів JIT, щоб вимірювання не включало інтерпретацію.
+        for (int i = 0; i < runs / 2; i++) {
+            build(layers, null);
+            build(layers, pool);
+        }
+
+        long[] serial = new long[runs], parallel = new long[runs];
+        long[] serialClassify = new long[runs], parallelClassify = new long[runs];
+        byte[] serialBytes = null, parallelBytes = null;
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            LevelData data = build(layers, null);
+            serial[i] = System.nanoTime() - start;
+            serialClassify[i] = classifyNanos;
+            serialBytes = bytes(data);
+
+            start = System.nanoTime();
+            data = build(layers, pool);
+            parallel[i] = System.nanoTime() - start;
+            parallelClassify[i] = classifyNanos;
+            parallelBytes = bytes(data);
+        }
+        pool.shutdown();
+
+        double serialMs = median(serial) / 1e6, parallelMs = median(parallel) / 1e6;
+        double serialLayersMs = median(serialClassify) / 1e6, parallelLayersMs = median(parallelClassify) / 1e6;
+        System.out.printf("LevelDataBuilder: %dx%d, %d layers, median of %d runs%n", WIDTH, HEIGHT, layerCount, runs);
+        System.out.printf("  serial:    %.2f ms (layers %.2f ms)%n", serialMs, serialLayersMs);
+        System.out.printf("  fork-join: %.2f ms (layers %.2f ms, %d threads, x%.2f, layers x%.2f)%n",
+            parallelMs, parallelLayersMs, threads, serialMs / parallelMs, serialLayersMs / parallelLayersMs);
+        System.out.println("  results " + (Arrays.equals(serialBytes, parallelBytes) ? "match" : "DIFFER"));
+    }
+
+    /**
+     * Будує дані рівня послідовно ({@code pool == null}) або паралельно, включно з об'єднанням
+     * прямокутників і просторовим індексом.
+     */
+    private static LevelData build(List<int[]> layers, ForkJoinPool pool) {
+        LevelDataBuilder builder = new LevelDataBuilder(WIDTH, HEIGHT, TileTyped.TILE_SIZE, TileRegistry.legacy(), true);
+        long start = System.nanoTime();
+        if (pool == null) {
+            for (int[] gids : layers) builder.addTileLayer(gids);
+        } else builder.addTileLayers(layers, pool);
+        classifyNanos = System.nanoTime() - start;
+        return builder.build();
+    }
+
+    private static byte[] bytes(LevelData data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LevelFile.write(data, out);
+        return out.toByteArray();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Будує шари мапи: суцільний декоративний фон, рельєф з підлогою, стінами, платформами
+     * та односторонніми платформами, шар шипів і об'єктів, решта — розріджений декор.
+     */
+    private static List<int[]> syntheticLayers(int width, int height, int count, long seed) {
+        Random random = new Random(seed);
+        List<int[]> layers = new ArrayList<>();
+        for (int layer = 0; layer < count; layer++) {
+            int[] gids = new int[width * height];
+            switch (layer) {
+                case 0 -> Arrays.fill(gids, 1);
+                case 1 -> {
+                    for (int col = 0; col < width; col++)
+                        for (int row = 0; row < 3; row++) gids[row * width + col] = TileTyped.CastleBrick.getId();
+                    for (int row = 0; row < height; row++) {
+                        gids[row * width] = TileTyped.BrickWall.getId();
+                        gids[row * width + width - 1] = TileTyped.BrickWall.getId();
+                    }
+                    for (int i = 0; i < width * height / 40; i++) {
+                        int col = random.nextInt(width), row = 3 + random.nextInt(height - 3), length = 1 + random.nextInt(8);
+                        boolean oneWay = random.nextInt(4) == 0;
+                        for (int c = col; c < Math.min(col + length, width); c++)
+                            gids[row * width + c] = oneWay ? TileTyped.FlatWoodPlatform.getId() : TileTyped.StoneBlock.getId();
+                    }
+                }
+                case 2 -> {
+                    TileTyped[] objects = {TileTyped.SteelSpike, TileTyped.BoneSpike, TileTyped.CrumblingBlock,
+                        TileTyped.Jump_Pad, TileTyped.CheckPoint};
+                    for (int i = 0; i < width * height / 200; i++)
+                        gids[random.nextInt(gids.length)] = objects[random.nextInt(objects.length)].getId();
+                }
+                default -> {
+                    for (int i = 0; i < gids.length / 10; i++) gids[random.nextInt(gids.length)] = 2 + random.nextInt(100);
+                }
+            }
+            layers.add(gids);
+        }
+        return layers;
+    }
+}
@@ -0,0 +1,119 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.StaticHazard;
+import Assembly.Enjoyers.Map.Collision.TileShape;
+import Assembly.Enjoyers.Map.TileKind;
+import Assembly.Enjoyers.Map.TileTyped;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Вимірює пропускну здатність {@link PlayerBatch} у кроках тіл за секунду (body-ticks/s)
+ * на синтетичній мапі: послідовно та з fork-join, і перевіряє, що обидва варіанти дають
+ * однаковий стан. Запуск: {@code gradlew :core:benchmarkPhysics --args="bodies ticks threads"}.
+ */
+public class PlayerBatchBenchmark {
+    private static final float STEP = 1f / 120f;
+    /** Розмір спрайта гравця (кадр атласу 50x37, збільшений утричі). */
+    static final float PLAYER_WIDTH = 150f, PLAYER_HEIGHT = 111f;
+    /** Час від смерті до респавну (приблизна тривалість анімації смерті). */
+    static final float DEATH_DELAY = 0.5f;
+
+    private static final TileShape[] PLATFORM_SHAPES = {TileShape.FULL, TileShape.FULL, TileShape.HALF_BOTTOM, TileShape.ONE_WAY};
+
+    /** Сумарний час кроків останнього запуску (без генерації керування). */
+    private static long stepNanos;
+
+    public static void main(String[] args) {
+        int bodies = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        HazardIndex hazards = new HazardIndex();
+        SolidityGrid grid = syntheticMap(2000, 300, 42, hazards);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        // Прогрів JIT, щоб вимірювання не включало інтерпретацію.
+        run(grid, hazards, bodies, ticks / 4, null);
+        run(grid, hazards, bodies, ticks / 4, pool);
+
+        long serialHash = run(grid, hazards, bodies, ticks, null);
+        double serial = bodies * (double) ticks / (stepNanos / 1e9);
+
+        long parallelHash = run(grid, hazards, bodies, ticks, pool);
+        double parallel = bodies * (double) ticks / (stepNanos / 1e9);
+        pool.shutdown();
+
+        System.out.printf("PlayerBatch: %d bodies x %d ticks%n", bodies, ticks);
+        System.out.printf("  serial:    %,.0f body-ticks/s%n", serial);
+        System.out.printf("  fork-join: %,.0f body-ticks/s (%d threads, x%.2f)%n", parallel, threads, parallel / serial);
+        System.out.println("  results " + (serialHash == parallelHash ? "match" : "DIFFER"));
+    }
+
+    /**
+     * Симулює пакет тіл з псевдовипадковим керуванням (однаковим для кожного запуску).
+     *
+     * @return хеш стану після симуляції
+     */
+    private static long run(SolidityGrid grid, HazardIndex hazards, int bodies, int ticks, ForkJoinPool pool) {
+        PlayerBatch batch = new PlayerBatch(PLAYER_WIDTH, PLAYER_HEIGHT, DEATH_DELAY, bodies);
+        int tileSize = grid.getTileSize();
+        for (int i = 0; i < bodies; i++)
+            batch.add((i * 7 % (grid.getWidth() - 10) + 2) * tileSize, (grid.getHeight() - 20) * tileSize);
+
+        int seed = 0x9e3779b9;
+        stepNanos = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            for (int i = 0; i < bodies; i++) {
+                seed ^= seed << 13;
+                seed ^= seed >>> 17;
+                seed ^= seed << 5;
+                batch.setInputBits(i, seed & 0x7f);
+            }
+            long start = System.nanoTime();
+            if (pool == null) batch.step(grid, hazards, STEP);
+            else batch.step(grid, hazards, STEP, pool);
+            stepNanos += System.nanoTime() - start;
+        }
+        return batch.stateHash();
+    }
+
+    /**
+     * Будує мапу з підлогою, пагорбами зі схилів, стінами по краях і випадковими платформами
+     * (повні й половинні блоки, односторонні) та шипами.
+     *
+     * @param hazards індекс, куди додаються шипи (будується наприкінці)
+     */
+    static SolidityGrid syntheticMap(int width, int height, long seed, HazardIndex hazards) {
+        int tileSize = TileTyped.TILE_SIZE;
+        SolidityGrid grid = new SolidityGrid(width, height, tileSize);
+        TileKind spike = TileKind.of(TileTyped.SteelSpike);
+        Random random = new Random(seed);
+        for (int col = 0; col < width; col++) grid.setSolid(col, 0);
+        for (int row = 0; row < height; row++) {
+            grid.setSolid(0, row);
+            grid.setSolid(width - 1, row);
+        }
+        for (int i = 0; i < width / 8; i++) {
+            int col = 1 + random.nextInt(width - 3);
+            grid.setShape(col, 1, TileShape.SLOPE_UP);
+            grid.setShape(col + 1, 1, TileShape.SLOPE_DOWN);
+        }
+        for (int i = 0; i < width * height / 40; i++) {
+            int col = random.nextInt(width), row = 1 + random.nextInt(height - 1), length = 1 + random.nextInt(8);
+            boolean hazard = random.nextInt(10) == 0;
+            TileShape shape = PLATFORM_SHAPES[random.nextInt(PLATFORM_SHAPES.length)];
+            for (int c = col; c < Math.min(col + length, width); c++) {
+                if (hazard) {
+                    grid.setHazard(c, row);
+                    hazards.add(new StaticHazard(HazardIndex.tileShape(spike.getShape(), c * tileSize, row * tileSize, tileSize), spike));
+                } else grid.setShape(c, row, shape);
+            }
+        }
+        hazards.build(width * tileSize, height * tileSize);
+        return grid;
+    }
+}
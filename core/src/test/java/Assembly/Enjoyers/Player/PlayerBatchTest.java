@@ -0,0 +1,134 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static Assembly.Enjoyers.Player.PlayerBatchBenchmark.DEATH_DELAY;
+import static Assembly.Enjoyers.Player.PlayerBatchBenchmark.PLAYER_HEIGHT;
+import static Assembly.Enjoyers.Player.PlayerBatchBenchmark.PLAYER_WIDTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевіряє, що {@link PlayerBatch} дотримується правил {@link PlayerPhysics}: ті самі входи
+ * на мапі без динамічних тіл дають побітово той самий стан.
+ */
+class PlayerBatchTest {
+    private static final float STEP = 1f / 120f;
+    private static final int BODIES = 64, TICKS = 3000;
+
+    private SolidityGrid grid;
+    private HazardIndex hazards;
+
+    @BeforeEach
+    void setUp() {
+        hazards = new HazardIndex();
+        grid = PlayerBatchBenchmark.syntheticMap(300, 60, 7, hazards);
+    }
+
+    @Test
+    void matchesPlayerPhysics() {
+        CollisionWorld world = new CollisionWorld(grid);
+        PlayerPhysics physics = new PlayerPhysics(DEATH_DELAY);
+        PlayerBatch batch = new PlayerBatch(PLAYER_WIDTH, PLAYER_HEIGHT, DEATH_DELAY, BODIES);
+        PlayerBody[] bodies = new PlayerBody[BODIES];
+        for (int i = 0; i < BODIES; i++) {
+            float x = spawnX(i), y = spawnY();
+            bodies[i] = new PlayerBody(PLAYER_WIDTH, PLAYER_HEIGHT, x, y);
+            batch.add(x, y);
+        }
+
+        PlayerInput input = new PlayerInput();
+        PlayerEvents events = new PlayerEvents();
+        int seed = 0x9e3779b9, deaths = 0;
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (int i = 0; i < BODIES; i++) {
+                seed = next(seed);
+                int bits = inputBits(seed);
+                input.setBits(bits);
+                physics.step(bodies[i], input, world, hazards, STEP, events);
+                batch.setInputBits(i, bits);
+                if (events.died) deaths++;
+            }
+            batch.step(grid, hazards, STEP);
+
+            for (int i = 0; i < BODIES; i++)
+                assertEquals(bodies[i].isDead(), batch.isDead(i), "Body " + i + " death state at tick " + tick);
+            assertEquals(stateHash(bodies), batch.stateHash(), "State hash at tick " + tick);
+        }
+        assertTrue(deaths > 0, "The run must exercise hazard deaths");
+    }
+
+    @Test
+    void forkJoinMatchesSerial() {
+        PlayerBatch serial = new PlayerBatch(PLAYER_WIDTH, PLAYER_HEIGHT, DEATH_DELAY, BODIES * 8);
+        PlayerBatch parallel = new PlayerBatch(PLAYER_WIDTH, PLAYER_HEIGHT, DEATH_DELAY, BODIES * 8);
+        for (int i = 0; i < BODIES * 8; i++) {
+            serial.add(spawnX(i), spawnY());
+            parallel.add(spawnX(i), spawnY());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int seed = 0x2545f491;
+            for (int tick = 0; tick < TICKS / 4; tick++) {
+                for (int i = 0; i < serial.size(); i++) {
+                    seed = next(seed);
+                    serial.setInputBits(i, inputBits(seed));
+                    parallel.setInputBits(i, inputBits(seed));
+                }
+                serial.step(grid, hazards, STEP);
+                parallel.step(grid, hazards, STEP, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(serial.stateHash(), parallel.stateHash());
+    }
+
+    private float spawnX(int i) {
+        return (i * 7 % (grid.getWidth() - 10) + 2) * grid.getTileSize();
+    }
+
+    private float spawnY() {
+        return (grid.getHeight() - 20) * grid.getTileSize();
+    }
+
+    private static int next(int seed) {
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    /**
+     * Псевдовипадкове керування; перезапуск спроби — приблизно раз на тисячу кроків.
+     */
+    private static int inputBits(int seed) {
+        int bits = seed & ~PlayerInput.RESTART & 0xff;
+        if ((seed >>> 20) % 1000 == 0) bits |= PlayerInput.RESTART;
+        return bits;
+    }
+
+    /**
+     * Хеш стану тіл за тією ж формулою, що й {@link PlayerBatch#stateHash()}.
+     */
+    private static long stateHash(PlayerBody[] bodies) {
+        long hash = 0xcbf29ce484222325L;
+        for (PlayerBody body : bodies) {
+            hash = (hash ^ Float.floatToRawIntBits(body.x)) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(body.y)) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(body.velocityX)) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(body.velocityY)) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(body.dashXVelocity)) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(body.dashYVelocity)) * 0x100000001b3L;
+            hash = (hash ^ Float.floatToRawIntBits(body.stamina)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
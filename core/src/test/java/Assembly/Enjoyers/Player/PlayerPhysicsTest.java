@@ -0,0 +1,220 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Collision.CollisionWorld;
+import Assembly.Enjoyers.Map.Collision.HazardIndex;
+import Assembly.Enjoyers.Map.Collision.SolidityGrid;
+import Assembly.Enjoyers.Map.Collision.StaticHazard;
+import Assembly.Enjoyers.Map.TileKind;
+import Assembly.Enjoyers.Map.TileTyped;
+import com.badlogic.gdx.math.Rectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Перевірки {@link PlayerPhysics} без вікна: крок симуляції на синтетичному рівні
+ * з підлогою, стінами, платформами та шипами.
+ */
+class PlayerPhysicsTest {
+    private static final float STEP = 1f / 120f;
+    /** Розмір спрайта гравця (кадр атласу 50x37, збільшений утричі). */
+    private static final float PLAYER_WIDTH = 150f, PLAYER_HEIGHT = 111f;
+    private static final int MAP_WIDTH = 200, MAP_HEIGHT = 40;
+
+    private CollisionWorld world;
+    private HazardIndex hazards;
+
+    @BeforeEach
+    void setUp() {
+        int tileSize = TileTyped.TILE_SIZE;
+        SolidityGrid grid = new SolidityGrid(MAP_WIDTH, MAP_HEIGHT, tileSize);
+        hazards = new HazardIndex();
+        TileKind spike = TileKind.of(TileTyped.SteelSpike);
+        Random random = new Random(42);
+
+        for (int col = 0; col < MAP_WIDTH; col++) grid.setSolid(col, 0);
+        for (int row = 0; row < MAP_HEIGHT; row++) {
+            grid.setSolid(0, row);
+            grid.setSolid(MAP_WIDTH - 1, row);
+        }
+        for (int i = 0; i < MAP_WIDTH * MAP_HEIGHT / 40; i++) {
+            int col = random.nextInt(MAP_WIDTH), row = 1 + random.nextInt(MAP_HEIGHT - 1), length = 1 + random.nextInt(8);
+            boolean hazard = random.nextInt(10) == 0;
+            for (int c = col; c < Math.min(col + length, MAP_WIDTH); c++) {
+                if (hazard) {
+                    grid.setHazard(c, row);
+                    hazards.add(new StaticHazard(HazardIndex.tileShape(spike.getShape(), c * tileSize, row * tileSize, tileSize), spike));
+                } else grid.setSolid(c, row);
+            }
+        }
+        hazards.build(MAP_WIDTH * tileSize, MAP_HEIGHT * tileSize);
+        world = new CollisionWorld(grid);
+    }
+
+    @Test
+    void stepDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation accounting is not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        PlayerPhysics physics = new PlayerPhysics(0.5f);
+        PlayerBody body = new PlayerBody(PLAYER_WIDTH, PLAYER_HEIGHT, 20 * TileTyped.TILE_SIZE, 10 * TileTyped.TILE_SIZE);
+        PlayerInput input = new PlayerInput();
+        PlayerEvents events = new PlayerEvents();
+        int[] inputs = randomInputs(4000, 0x9e3779b9);
+
+        // Прогрів: перший прохід завантажує класи та заповнює внутрішні буфери індексів.
+        simulate(physics, body, input, events, inputs);
+
+        // Компіляція JIT під час вимірювання зрідка дає сотню-другу байтів службових виділень,
+        // тож береться найменше з кількох повторів: виділення на кожному кроці дало б десятки кілобайтів.
+        long thread = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+        for (int round = 0; round < 5 && allocated != 0; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            simulate(physics, body, input, events, inputs);
+            allocated = Math.min(allocated, threads.getThreadAllocatedBytes(thread) - before);
+        }
+
+        assertEquals(0, allocated, "Bytes allocated by " + inputs.length + " physics steps");
+    }
+
+    @Test
+    void replayReproducesRecordedRun() throws IOException {
+        int[] inputs = randomInputs(6000, 0x2545f491);
+        inputs[3000] |= PlayerInput.RESTART;
+        RunRecording recording = record("test", inputs);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recording.write(out);
+        RunRecording saved = RunRecording.read(new ByteArrayInputStream(out.toByteArray()));
+
+        PlayerInput input = new PlayerInput();
+        int[] replayed = new int[saved.getTicks()];
+        for (int tick = 0; tick < replayed.length; tick++) {
+            saved.getInput(tick, input);
+            replayed[tick] = input.toBits();
+        }
+        RunRecording replay = record("test", replayed);
+        assertEquals(inputs.length, replay.getTicks());
+        assertTrue(saved.matches(replay), "Replay of the recorded inputs must give the same state hash");
+
+        Arrays.fill(replayed, 100, 400, PlayerInput.RIGHT);
+        assertFalse(saved.matches(record("test", replayed)), "Different inputs must give a different state hash");
+    }
+
+    @Test
+    void movingPlatformPushesPlayerAlongItsMotion() {
+        int tileSize = TileTyped.TILE_SIZE;
+        CollisionWorld room = new CollisionWorld(room(40, 20));
+        PlayerPhysics physics = new PlayerPhysics(0.5f);
+        PlayerBody body = new PlayerBody(PLAYER_WIDTH, PLAYER_HEIGHT, 10 * tileSize, tileSize);
+        PlayerInput input = new PlayerInput();
+        PlayerEvents events = new PlayerEvents();
+        physics.step(body, input, room, emptyHazards(), STEP, events);
+        assertTrue(body.isOnGround());
+
+        Rectangle platform = new Rectangle(body.hitBox.x - 3 * tileSize, body.hitBox.y, 3 * tileSize, tileSize);
+        room.addDynamic(platform);
+        platform.x += 10;
+        room.moveDynamic(platform);
+        float platformRight = platform.x + platform.width;
+
+        physics.findGround(body, room);
+        physics.carry(body, room);
+        physics.step(body, input, room, emptyHazards(), STEP, events);
+
+        assertFalse(events.died);
+        assertFalse(body.hitBox.overlaps(platform), "The platform must not embed the player");
+        assertEquals(platformRight, body.hitBox.x, 0.01f);
+    }
+
+    @Test
+    void movingPlatformCrushesPlayerAgainstWall() {
+        int tileSize = TileTyped.TILE_SIZE;
+        SolidityGrid grid = room(40, 20);
+        CollisionWorld room = new CollisionWorld(grid);
+        PlayerPhysics physics = new PlayerPhysics(0.5f);
+        PlayerBody body = new PlayerBody(PLAYER_WIDTH, PLAYER_HEIGHT, tileSize - PlayerBody.HITBOX_X_OFFSET, tileSize);
+        PlayerInput input = new PlayerInput();
+        PlayerEvents events = new PlayerEvents();
+        physics.step(body, input, room, emptyHazards(), STEP, events);
+
+        Rectangle platform = new Rectangle(body.hitBox.x + body.hitBox.width, body.hitBox.y, 3 * tileSize, tileSize);
+        room.addDynamic(platform);
+        platform.x -= 10;
+        room.moveDynamic(platform);
+
+        physics.step(body, input, room, emptyHazards(), STEP, events);
+        assertTrue(events.died, "A player squeezed between a platform and a wall is crushed");
+        assertTrue(body.isDead());
+    }
+
+    /**
+     * Кімната з підлогою та стінами по краях.
+     */
+    private static SolidityGrid room(int width, int height) {
+        SolidityGrid grid = new SolidityGrid(width, height, TileTyped.TILE_SIZE);
+        for (int col = 0; col < width; col++) grid.setSolid(col, 0);
+        for (int row = 0; row < height; row++) {
+            grid.setSolid(0, row);
+            grid.setSolid(width - 1, row);
+        }
+        return grid;
+    }
+
+    private static HazardIndex emptyHazards() {
+        HazardIndex hazards = new HazardIndex();
+        hazards.build(1, 1);
+        return hazards;
+    }
+
+    /**
+     * Симулює рівень з нуля і записує проходження, як це робить гра.
+     */
+    private RunRecording record(String levelId, int[] inputs) {
+        PlayerPhysics physics = new PlayerPhysics(0.5f);
+        PlayerBody body = new PlayerBody(PLAYER_WIDTH, PLAYER_HEIGHT, 20 * TileTyped.TILE_SIZE, 10 * TileTyped.TILE_SIZE);
+        PlayerInput input = new PlayerInput();
+        PlayerEvents events = new PlayerEvents();
+        RunRecording recording = new RunRecording(levelId);
+        for (int bits : inputs) {
+            input.setBits(bits);
+            physics.step(body, input, world, hazards, STEP, events);
+            recording.record(input, body);
+        }
+        return recording;
+    }
+
+    private void simulate(PlayerPhysics physics, PlayerBody body, PlayerInput input, PlayerEvents events, int[] inputs) {
+        for (int bits : inputs) {
+            input.setBits(bits);
+            physics.step(body, input, world, hazards, STEP, events);
+        }
+    }
+
+    /**
+     * Псевдовипадкове керування (xorshift) без перезапуску спроби.
+     */
+    static int[] randomInputs(int ticks, int seed) {
+        int[] inputs = new int[ticks];
+        for (int tick = 0; tick < ticks; tick++) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            inputs[tick] = seed & ~PlayerInput.RESTART & 0xff;
+        }
+        return inputs;
+    }
+}
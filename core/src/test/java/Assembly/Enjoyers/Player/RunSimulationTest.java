@@ -0,0 +1,147 @@
+package Assembly.Enjoyers.Player;
+
+import Assembly.Enjoyers.Map.Baked.LevelData;
+import Assembly.Enjoyers.Map.Baked.TmxReader;
+import Assembly.Enjoyers.Map.LevelWorld;
+import Assembly.Enjoyers.Map.TileRegistry;
+import Assembly.Enjoyers.Map.TileTyped;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Перевірки {@link RunSimulation} без вікна: запис проходження синтетичного рівня
+ * з підлогою, чекпоінтом, трампліном, crumble-блоками та рухомою платформою
+ * і його перевірка повторною симуляцією в новому світі рівня.
+ */
+class RunSimulationTest {
+    private static final int MAP_WIDTH = 80, MAP_HEIGHT = 20, EXIT_COL = 72;
+    private static final int MAX_TICKS = 20 * 120;
+
+    private LevelData data;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        data = TmxReader.read(level().getBytes(StandardCharsets.UTF_8), 0, source -> null);
+    }
+
+    @Test
+    void recordedRunVerifiesByResimulation() throws IOException {
+        RunRecording run = record();
+        assertTrue(RunSimulation.verify(world(), data.getSpawnX(), data.getSpawnY(), run),
+            "A recorded run must replay to the exit with the same state hash");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        run.write(out);
+        RunRecording saved = RunRecording.read(new ByteArrayInputStream(out.toByteArray()));
+        assertTrue(RunSimulation.verify(world(), data.getSpawnX(), data.getSpawnY(), saved),
+            "A saved run must verify after reading it back");
+    }
+
+    @Test
+    void tamperedRunDoesNotVerify() throws IOException {
+        RunRecording run = record();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        run.write(out);
+        byte[] bytes = out.toByteArray();
+        // Вхід кроків лежить наприкінці запису: прибирається рух праворуч на останніх кроках.
+        Arrays.fill(bytes, bytes.length - 60, bytes.length, (byte) 0);
+
+        RunRecording tampered = RunRecording.read(new ByteArrayInputStream(bytes));
+        assertFalse(RunSimulation.verify(world(), data.getSpawnX(), data.getSpawnY(), tampered));
+    }
+
+    @Test
+    void invalidTickCountIsRejected() {
+        assertThrows(IOException.class, () -> RunRecording.read(new ByteArrayInputStream(header(-1, 0))));
+        assertThrows(IOException.class, () -> RunRecording.read(new ByteArrayInputStream(header(100, 40))),
+            "A run shorter than its tick count is truncated");
+    }
+
+    /**
+     * Проходить рівень, як це робить гра: праворуч зі стрибками, доки гравець не дійде до фінішу.
+     */
+    private RunRecording record() {
+        LevelWorld world = world();
+        PlayerBody body = new PlayerBody(Player.SPRITE_WIDTH, Player.SPRITE_HEIGHT, data.getSpawnX(), data.getSpawnY());
+        RunSimulation simulation = new RunSimulation(world, body, new PlayerPhysics(PlayerAnimationManager.DYING_DURATION));
+        RunRecording recording = new RunRecording("test");
+        PlayerInput input = new PlayerInput();
+
+        boolean reachedExit = false;
+        for (int tick = 0; tick < MAX_TICKS && !reachedExit; tick++) {
+            input.setBits(PlayerInput.RIGHT | (tick % 90 < 20 ? PlayerInput.JUMP : 0));
+            reachedExit = simulation.step(input, RunSimulation.STEP);
+            recording.record(input, body);
+        }
+        assertTrue(reachedExit, "The scripted run must reach the exit");
+        return recording;
+    }
+
+    private LevelWorld world() {
+        LevelWorld world = new LevelWorld(data, TileRegistry.legacy());
+        world.setExit(data.getExit());
+        return world;
+    }
+
+    /**
+     * Запис формату {@link RunRecording} (версія 2) з заданою кількістю кроків і байтів входу.
+     */
+    private static byte[] header(int ticks, int inputs) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(2);
+        data.writeUTF("test");
+        data.writeInt(ticks);
+        data.writeLong(0);
+        data.write(new byte[inputs]);
+        return out.toByteArray();
+    }
+
+    /**
+     * TMX рівня з тайлами за старими ідентифікаторами ({@link TileRegistry#legacy()}).
+     */
+    private static String level() {
+        int tileSize = TileTyped.TILE_SIZE, mapHeight = MAP_HEIGHT * tileSize;
+        int[] cells = new int[MAP_WIDTH * MAP_HEIGHT];
+        for (int col = 0; col < MAP_WIDTH; col++) cells[(MAP_HEIGHT - 1) * MAP_WIDTH + col] = TileTyped.CastleFloor.getId();
+        for (int row = 0; row < MAP_HEIGHT; row++) cells[row * MAP_WIDTH] = TileTyped.CastleFloor.getId();
+        cells[(MAP_HEIGHT - 2) * MAP_WIDTH + 15] = TileTyped.CheckPoint.getId();
+        cells[(MAP_HEIGHT - 2) * MAP_WIDTH + 30] = TileTyped.Jump_Pad.getId();
+        for (int col = 40; col < 44; col++) cells[(MAP_HEIGHT - 8) * MAP_WIDTH + col] = TileTyped.CrumblingBlock.getId();
+
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < cells.length; i++) {
+            if (i > 0) csv.append(i % MAP_WIDTH == 0 ? ",\n" : ",");
+            csv.append(cells[i]);
+        }
+
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<map version=\"1.10\" orientation=\"orthogonal\" width=\"" + MAP_WIDTH + "\" height=\"" + MAP_HEIGHT
+            + "\" tilewidth=\"" + tileSize + "\" tileheight=\"" + tileSize + "\" infinite=\"0\">\n"
+            + " <layer id=\"1\" name=\"Tiles\" width=\"" + MAP_WIDTH + "\" height=\"" + MAP_HEIGHT + "\">\n"
+            + "  <data encoding=\"csv\">\n" + csv + "\n</data>\n"
+            + " </layer>\n"
+            + " <objectgroup id=\"2\" name=\"Platforms\">\n"
+            + "  <object id=\"1\" x=\"" + 50 * tileSize + "\" y=\"" + 6 * tileSize + "\">\n"
+            + "   <polyline points=\"0,0 " + 8 * tileSize + ",0\"/>\n"
+            + "  </object>\n"
+            + " </objectgroup>\n"
+            + " <objectgroup id=\"3\" name=\"Level\">\n"
+            + "  <object id=\"2\" name=\"spawn\" x=\"" + 3 * tileSize + "\" y=\"" + (mapHeight - tileSize) + "\"/>\n"
+            + "  <object id=\"3\" name=\"exit\" x=\"" + EXIT_COL * tileSize + "\" y=\"" + (mapHeight - 6 * tileSize)
+            + "\" width=\"" + 3 * tileSize + "\" height=\"" + 5 * tileSize + "\"/>\n"
+            + " </objectgroup>\n"
+            + "</map>\n";
+    }
+}